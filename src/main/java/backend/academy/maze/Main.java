@@ -1,30 +1,42 @@
 package backend.academy.maze;
 
+import backend.academy.maze.cli.BatchRunner;
 import backend.academy.maze.game.MazeGame;
+import backend.academy.maze.pool.MazePool;
 import backend.academy.maze.ui.ConsoleUI;
+import backend.academy.maze.ui.TerminalOutput;
 import backend.academy.maze.ui.UI;
 import lombok.experimental.UtilityClass;
 
 /**
  * The {@code Main} class serves as the entry point for the maze game application.
- * It initializes the user interface and starts the game loop.
+ * It initializes the user interface and starts the game loop, or, when arguments are given,
+ * runs the non-interactive batch mode described by {@link backend.academy.maze.cli.BatchParams}.
  */
 @UtilityClass
 public class Main {
 
     /**
-     * The main method, which initializes the UI and starts the maze game.
+     * The main method, which initializes the UI and starts the maze game, or runs the batch mode.
      *
-     * @param args command-line arguments (not used in this application).
+     * @param args command-line arguments; none for the interactive game
      */
     public static void main(String[] args) {
+        if (args.length > 0) {
+            int status = BatchRunner.execute(args, new TerminalOutput());
+            if (status != 0) {
+                System.exit(status);
+            }
+            return;
+        }
+
         // Initialize the user interface (UI) for the game.
         UI ui = new ConsoleUI();
 
-        // Create a new instance of MazeGame and pass the UI to it.
-        MazeGame game = new MazeGame(ui);
-
-        // Start the game.
-        game.start();
+        // Create a new instance of MazeGame and pass the UI and the maze pool to it, then start the game.
+        try (MazePool mazePool = new MazePool()) {
+            MazeGame game = new MazeGame(ui, mazePool);
+            game.start();
+        }
     }
 }
@@ -0,0 +1,273 @@
+package backend.academy.maze.analysis;
+
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import lombok.experimental.UtilityClass;
+
+/**
+ * The MazeAnalyzer class computes the structural statistics of a maze: the degree distribution
+ * (and with it dead ends and junctions), the connected components, the corridor lengths and
+ * the diameter.
+ *
+ * <p>The grid is scanned once in memory order, with bands of rows scanned in parallel. While
+ * scanning, every open cell is joined with its open neighbors above and to the left in a
+ * union-find structure over packed indices {@code x * height + y}, and every corridor cell
+ * (an open cell with exactly two neighbors) is joined with neighboring corridor cells in a
+ * second one; the seams between bands are joined afterwards. A corridor is a maximal connected
+ * run of corridor cells and its length is its number of cells.</p>
+ *
+ * <p>The diameter of the largest component is found with two breadth-first searches: the first
+ * finds the farthest cell from an arbitrary start, the second the farthest cell from that one.
+ * This is exact when the maze has no loops and a lower bound otherwise.</p>
+ */
+@UtilityClass
+public class MazeAnalyzer {
+    static final int JUNCTION_DEGREE = 3;
+    static final int MAX_DEGREE = 4;
+
+    private static final int CORRIDOR_DEGREE = 2;
+    private static final int BAND_ROWS = 64;
+
+    /**
+     * Analyzes the given maze.
+     *
+     * @param maze the maze to analyze
+     * @return the statistics of the maze
+     */
+    public static MazeStats analyze(Maze maze) {
+        Scan scan = new Scan(maze);
+        int bands = (maze.width() + BAND_ROWS - 1) / BAND_ROWS;
+
+        long[] degreeHistogram = IntStream.range(0, bands).parallel()
+            .mapToObj(band -> scan.scanBand(band * BAND_ROWS, Math.min(maze.width(), (band + 1) * BAND_ROWS)))
+            .reduce(new long[MAX_DEGREE + 1], MazeAnalyzer::sum);
+        for (int band = 1; band < bands; band++) {
+            scan.joinSeam(band * BAND_ROWS);
+        }
+
+        return scan.summarize(degreeHistogram);
+    }
+
+    private static long[] sum(long[] a, long[] b) {
+        long[] result = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            result[i] = a[i] + b[i];
+        }
+        return result;
+    }
+
+    /**
+     * The state of one analysis: the grid, the degree of every cell and the two union-find forests.
+     */
+    private static final class Scan {
+        private final Cell[][] cells;
+        private final int width;
+        private final int height;
+        private final byte[] degree;
+        private final int[] components;
+        private final int[] corridors;
+
+        Scan(Maze maze) {
+            this.cells = maze.maze();
+            this.width = maze.width();
+            this.height = maze.height();
+            this.degree = new byte[width * height];
+            this.components = new int[width * height];
+            this.corridors = new int[width * height];
+        }
+
+        /**
+         * Scans the rows {@code from} (inclusive) to {@code to} (exclusive). Only the entries of the
+         * band are written, so bands can be scanned concurrently.
+         *
+         * @return the degree histogram of the band
+         */
+        long[] scanBand(int from, int to) {
+            long[] histogram = new long[MAX_DEGREE + 1];
+            for (int x = from; x < to; x++) {
+                Cell[] row = cells[x];
+                for (int y = 0; y < height; y++) {
+                    int index = x * height + y;
+                    components[index] = index;
+                    corridors[index] = index;
+                    if (row[y] == Cell.WALL) {
+                        continue;
+                    }
+                    int cellDegree = countOpenNeighbors(x, y);
+                    degree[index] = (byte) cellDegree;
+                    histogram[cellDegree]++;
+
+                    if (y > 0 && row[y - 1] != Cell.WALL) {
+                        join(index, index - 1);
+                    }
+                    if (x > from && cells[x - 1][y] != Cell.WALL) {
+                        join(index, index - height);
+                    }
+                }
+            }
+            return histogram;
+        }
+
+        /**
+         * Joins the cells of row {@code x} with the cells of the row above it, which belongs to another band.
+         */
+        void joinSeam(int x) {
+            for (int y = 0; y < height; y++) {
+                if (cells[x][y] != Cell.WALL && cells[x - 1][y] != Cell.WALL) {
+                    join(x * height + y, (x - 1) * height + y);
+                }
+            }
+        }
+
+        /**
+         * Counts the components and corridors and measures the diameter. The union-find arrays are
+         * reused as the counters and as the queue and distances of the breadth-first searches.
+         */
+        MazeStats summarize(long[] degreeHistogram) {
+            long degreeSum = 0;
+            int openCells = 0;
+            for (int d = 0; d <= MAX_DEGREE; d++) {
+                degreeSum += d * degreeHistogram[d];
+                openCells += (int) degreeHistogram[d];
+            }
+
+            int[] sizes = new int[degree.length];
+            int componentCount = 0;
+            int largest = -1;
+            for (int index = 0; index < degree.length; index++) {
+                if (!isOpen(index)) {
+                    continue;
+                }
+                int root = find(components, index);
+                if (sizes[root]++ == 0) {
+                    componentCount++;
+                }
+                if (largest < 0 || sizes[root] > sizes[largest]) {
+                    largest = root;
+                }
+            }
+
+            SortedMap<Integer, Integer> corridorLengths = countCorridors(sizes);
+
+            long edges = degreeSum / 2;
+            boolean forest = edges - openCells + componentCount == 0;
+            if (largest < 0) {
+                return new MazeStats(openCells, edges, componentCount, degreeHistogram, corridorLengths,
+                    0, true, null, null);
+            }
+
+            int[] queue = components;
+            int[] distance = corridors;
+            int start = farthest(largest, queue, distance);
+            int end = farthest(start, queue, distance);
+            return new MazeStats(openCells, edges, componentCount, degreeHistogram, corridorLengths,
+                distance[end], forest, toPoint(start), toPoint(end));
+        }
+
+        private SortedMap<Integer, Integer> countCorridors(int[] sizes) {
+            Arrays.fill(sizes, 0);
+            for (int index = 0; index < degree.length; index++) {
+                if (degree[index] == CORRIDOR_DEGREE) {
+                    sizes[find(corridors, index)]++;
+                }
+            }
+            SortedMap<Integer, Integer> corridorLengths = new TreeMap<>();
+            for (int size : sizes) {
+                if (size > 0) {
+                    corridorLengths.merge(size, 1, Integer::sum);
+                }
+            }
+            return Collections.unmodifiableSortedMap(corridorLengths);
+        }
+
+        /**
+         * Runs a breadth-first search from the given cell.
+         *
+         * @return the farthest cell reached; its distance is left in {@code distance}
+         */
+        private int farthest(int source, int[] queue, int[] distance) {
+            Arrays.fill(distance, -1);
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = source;
+            distance[source] = 0;
+            int last = source;
+
+            while (head < tail) {
+                int current = queue[head++];
+                last = current;
+                int x = current / height;
+                int y = current % height;
+                tail = visit(current, x > 0, current - height, queue, tail, distance);
+                tail = visit(current, x + 1 < width, current + height, queue, tail, distance);
+                tail = visit(current, y > 0, current - 1, queue, tail, distance);
+                tail = visit(current, y + 1 < height, current + 1, queue, tail, distance);
+            }
+            return last;
+        }
+
+        private int visit(int current, boolean inside, int next, int[] queue, int tail, int[] distance) {
+            if (!inside || distance[next] >= 0 || !isOpen(next)) {
+                return tail;
+            }
+            distance[next] = distance[current] + 1;
+            queue[tail] = next;
+            return tail + 1;
+        }
+
+        private void join(int a, int b) {
+            union(components, a, b);
+            if (degree[a] == CORRIDOR_DEGREE && degree[b] == CORRIDOR_DEGREE) {
+                union(corridors, a, b);
+            }
+        }
+
+        private int countOpenNeighbors(int x, int y) {
+            int count = 0;
+            if (x > 0 && cells[x - 1][y] != Cell.WALL) {
+                count++;
+            }
+            if (x + 1 < width && cells[x + 1][y] != Cell.WALL) {
+                count++;
+            }
+            if (y > 0 && cells[x][y - 1] != Cell.WALL) {
+                count++;
+            }
+            if (y + 1 < height && cells[x][y + 1] != Cell.WALL) {
+                count++;
+            }
+            return count;
+        }
+
+        private boolean isOpen(int index) {
+            return cells[index / height][index % height] != Cell.WALL;
+        }
+
+        private Point toPoint(int index) {
+            return new Point(index / height, index % height);
+        }
+
+        private static void union(int[] parent, int a, int b) {
+            int rootA = find(parent, a);
+            int rootB = find(parent, b);
+            if (rootA != rootB) {
+                parent[rootA] = rootB;
+            }
+        }
+
+        private static int find(int[] parent, int element) {
+            int current = element;
+            while (parent[current] != current) {
+                parent[current] = parent[parent[current]];
+                current = parent[current];
+            }
+            return current;
+        }
+    }
+}
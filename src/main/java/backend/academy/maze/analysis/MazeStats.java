@@ -0,0 +1,76 @@
+package backend.academy.maze.analysis;
+
+import backend.academy.maze.graph.Point;
+import java.util.SortedMap;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Structural statistics of a maze, as computed by {@link MazeAnalyzer}. Cells are adjacent when
+ * they share a side and neither is a wall; the degree of a cell is its number of adjacent cells.
+ */
+@Getter
+@AllArgsConstructor
+public class MazeStats {
+    private final int openCells;                            // The number of cells that are not walls
+    private final long edges;                               // The number of pairs of adjacent open cells
+    private final int components;                           // The number of connected groups of open cells
+    private final long[] degreeHistogram;                   // The number of open cells of each degree, 0 to 4
+    private final SortedMap<Integer, Integer> corridorLengths; // The number of corridors of each length
+    private final int diameter;                             // The longest shortest path found, in steps
+    private final boolean diameterExact;                    // Whether the diameter is exact rather than a lower bound
+    private final Point diameterStart;                      // One end of the diameter, null without open cells
+    private final Point diameterEnd;                        // The other end of the diameter, null without open cells
+
+    /**
+     * Returns the number of dead ends, the open cells with exactly one neighbor.
+     *
+     * @return the number of dead ends
+     */
+    public long deadEnds() {
+        return degreeHistogram[1];
+    }
+
+    /**
+     * Returns the number of junctions, the open cells with three or four neighbors.
+     *
+     * @return the number of junctions
+     */
+    public long junctions() {
+        return degreeHistogram[MazeAnalyzer.JUNCTION_DEGREE] + degreeHistogram[MazeAnalyzer.MAX_DEGREE];
+    }
+
+    /**
+     * Returns the number of independent loops, {@code edges - openCells + components}.
+     * A maze without loops has exactly one route between any two connected cells.
+     *
+     * @return the number of independent loops
+     */
+    public long loops() {
+        return edges - openCells + components;
+    }
+
+    /**
+     * Returns whether the maze is perfect: all open cells are connected and there are no loops.
+     *
+     * @return {@code true} if the maze is perfect
+     */
+    public boolean perfect() {
+        return components == 1 && loops() == 0;
+    }
+
+    /**
+     * Returns the branching factor: the average number of ways forward when entering a junction.
+     *
+     * @return the branching factor, or {@code 0} if there are no junctions
+     */
+    public double branchingFactor() {
+        long junctions = junctions();
+        if (junctions == 0) {
+            return 0;
+        }
+        long ways = degreeHistogram[MazeAnalyzer.JUNCTION_DEGREE] * (MazeAnalyzer.JUNCTION_DEGREE - 1)
+            + degreeHistogram[MazeAnalyzer.MAX_DEGREE] * (MazeAnalyzer.MAX_DEGREE - 1);
+        return (double) ways / junctions;
+    }
+}
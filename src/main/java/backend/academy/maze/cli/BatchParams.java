@@ -0,0 +1,70 @@
+package backend.academy.maze.cli;
+
+import backend.academy.maze.generation.MazeGeneratorType;
+import backend.academy.maze.routing.PathfinderType;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.validators.PositiveInteger;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Command-line parameters of the batch mode. Any argument on the command line switches the
+ * application from the interactive game to a single batch invocation with these parameters.
+ */
+@Getter
+@ToString
+public class BatchParams {
+    private static final int DEFAULT_SIZE = 41;
+
+    @Parameter(names = {"--height", "-H"}, description = "Number of rows of the maze",
+        validateWith = PositiveInteger.class)
+    private int height = DEFAULT_SIZE;
+
+    @Parameter(names = {"--width", "-W"}, description = "Number of cells per row of the maze",
+        validateWith = PositiveInteger.class)
+    private int width = DEFAULT_SIZE;
+
+    @Parameter(names = {"--algorithm", "-a"}, description = "Maze generation algorithm")
+    private MazeGeneratorType algorithm = MazeGeneratorType.RECURSIVE_BACKTRACKER;
+
+    @Parameter(names = {"--seed", "-s"}, description = "Seed of the runs; random when omitted")
+    private Long seed;
+
+    @Parameter(names = "--special-cells", description = "Fraction of roads turned into special cells, in [0, 1]")
+    private double specialCells;
+
+    @Parameter(names = "--clustered", description = "Place special cells as clustered terrain")
+    private boolean clustered;
+
+    @Parameter(names = {"--endpoints", "-e"}, description = "How the start and end points are chosen")
+    private EndpointMode endpoints = EndpointMode.HARDEST;
+
+    @Parameter(names = {"--pathfinder", "-p"}, description = "Pathfinding algorithm")
+    private PathfinderType pathfinder = PathfinderType.DIJKSTRA;
+
+    @Parameter(names = {"--format", "-f"}, description = "Output format of the solved mazes")
+    private OutputFormat format = OutputFormat.NONE;
+
+    @Parameter(names = {"--output", "-o"}, description = "Directory the solved mazes are written to")
+    private String output = ".";
+
+    @Parameter(names = "--cell-size", description = "Side of a cell in pixels, for PNG and SVG output",
+        validateWith = PositiveInteger.class)
+    private int cellSize = 2;
+
+    @Parameter(names = {"--repetitions", "-n"}, description = "Number of runs", validateWith = PositiveInteger.class)
+    private int repetitions = 1;
+
+    @Parameter(names = "--stats", description = "Report the work of every path search")
+    private boolean stats;
+
+    @Parameter(names = "--stream", description = "Write one ELLER maze row by row to a text file in the output "
+        + "directory instead of running a batch; the size is limited only by the disk")
+    private boolean stream;
+
+    @Parameter(names = "--serve", description = "Serve the HTTP API on this port instead of running a batch")
+    private Integer serve;
+
+    @Parameter(names = {"--help", "-h"}, description = "Show this help", help = true)
+    private boolean help;
+}
@@ -0,0 +1,313 @@
+package backend.academy.maze.cli;
+
+import backend.academy.maze.export.MazeImageExporter;
+import backend.academy.maze.export.MazeSvgExporter;
+import backend.academy.maze.generation.EllerMazeGenerator;
+import backend.academy.maze.generation.MazeGeneratorType;
+import backend.academy.maze.generation.stream.WriterRowSink;
+import backend.academy.maze.graph.MazeGraph;
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import backend.academy.maze.model.utils.MazeUtils;
+import backend.academy.maze.routing.CompactPath;
+import backend.academy.maze.routing.EndpointSelector;
+import backend.academy.maze.routing.Endpoints;
+import backend.academy.maze.routing.SearchBudget;
+import backend.academy.maze.routing.SearchStats;
+import backend.academy.maze.server.MazeServer;
+import backend.academy.maze.terrain.NoiseTerrain;
+import backend.academy.maze.ui.MazeRenderer;
+import backend.academy.maze.ui.TerminalOutput;
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.ParameterException;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Runs the maze pipeline without prompts: generation, special cells, graph construction, endpoint
+ * selection, pathfinding and export, once per repetition. The time of every stage is measured
+ * with {@link System#nanoTime()} and reported per run, followed by the minimum, mean and maximum
+ * of each stage over all runs. With {@code --stats} the {@link SearchStats} of every path search
+ * are reported too, per run and summed over all runs. With {@code --serve} the {@link MazeServer}
+ * is started instead. With {@code --stream} a single {@link MazeGeneratorType#ELLER} maze is written
+ * to a text file as its rows are generated, through a {@link WriterRowSink}, so it never has to fit
+ * in memory; the maze is neither decorated nor solved.
+ *
+ * <p>All randomness of a run comes from one {@link SplittableRandom} split off a generator seeded
+ * with the given seed, so a seed reproduces every maze and every path of an invocation. The seed
+ * is printed when it was not given.</p>
+ */
+public class BatchRunner {
+    private static final String PROGRAM_NAME = "maze";
+    private static final String FILE_PREFIX = "maze-";
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final Stage[] STAGES = Stage.values();
+
+    private final BatchParams params;
+    private final TerminalOutput out;
+    private final long[][] timings;
+    private final EndpointSelector endpointSelector = new EndpointSelector();
+    private final MazeRenderer renderer = new MazeRenderer();
+    private final SearchStats searchTotals = new SearchStats();
+
+    /**
+     * Constructs a runner.
+     *
+     * @param params the parsed parameters
+     * @param out the destination of the report
+     * @throws IllegalArgumentException if the special cell ratio is out of range
+     */
+    public BatchRunner(BatchParams params, TerminalOutput out) {
+        if (params.specialCells() < 0 || params.specialCells() > 1) {
+            throw new IllegalArgumentException("Invalid special cell ratio: " + params.specialCells());
+        }
+        this.params = params;
+        this.out = out;
+        this.timings = new long[STAGES.length][params.repetitions()];
+    }
+
+    /**
+     * Parses the command line and runs the batch, reporting to the given output.
+     *
+     * @param args the command-line arguments
+     * @param out the destination of the report and of error messages
+     * @return the exit status: {@code 0} on success, {@code 1} on invalid arguments, {@code 2} on I/O errors
+     */
+    public static int execute(String[] args, TerminalOutput out) {
+        BatchParams params = new BatchParams();
+        JCommander commander = JCommander.newBuilder()
+            .addObject(params)
+            .programName(PROGRAM_NAME)
+            .build();
+        int status = 0;
+        try {
+            commander.parse(args);
+            if (params.help()) {
+                StringBuilder usage = new StringBuilder();
+                commander.getUsageFormatter().usage(usage);
+                out.print(usage);
+            } else if (params.serve() != null) {
+                serve(params.serve(), out);
+            } else if (params.stream()) {
+                new BatchRunner(params, out).stream();
+            } else {
+                new BatchRunner(params, out).run();
+            }
+        } catch (ParameterException | IllegalArgumentException e) {
+            out.println("Error: " + e.getMessage());
+            status = 1;
+        } catch (IOException e) {
+            out.println("I/O error: " + e.getMessage());
+            status = 2;
+        }
+        out.flush();
+        return status;
+    }
+
+    /**
+     * Starts the HTTP service in the background; it runs until the process is stopped.
+     */
+    private static void serve(int port, TerminalOutput out) throws IOException {
+        MazeServer server = new MazeServer(new InetSocketAddress(port));
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        server.start();
+        out.println("Serving the maze API on port " + server.port());
+    }
+
+    /**
+     * Streams one maze to {@code maze-1.txt} in the output directory and reports the time taken.
+     * The maze is the one the first run of a batch with the same seed would generate.
+     *
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if the algorithm cannot stream its rows
+     */
+    public void stream() throws IOException {
+        if (params.algorithm() != MazeGeneratorType.ELLER) {
+            throw new IllegalArgumentException("Only " + MazeGeneratorType.ELLER + " can stream, not "
+                + params.algorithm());
+        }
+        long seed = seed();
+        Path directory = Path.of(params.output());
+        Files.createDirectories(directory);
+        Path file = directory.resolve(FILE_PREFIX + 1 + '.' + OutputFormat.TEXT.extension());
+
+        long time = System.nanoTime();
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            new EllerMazeGenerator().stream(params.height(), params.width(), new SplittableRandom(seed).split(),
+                new WriterRowSink(writer));
+        }
+        out.println(String.format(Locale.ROOT, "%s %dx%d, seed %d, streamed to %s in %s",
+            params.algorithm().description(), params.height(), params.width(), seed, file,
+            millis(System.nanoTime() - time)));
+    }
+
+    /**
+     * Runs all repetitions and prints the report.
+     *
+     * @throws IOException if an output file cannot be written
+     */
+    public void run() throws IOException {
+        long seed = seed();
+        out.println(String.format(Locale.ROOT, "%s %dx%d, %s, seed %d, %d run(s)",
+            params.algorithm().description(), params.height(), params.width(), params.pathfinder().description(),
+            seed, params.repetitions()));
+        if (params.format() != OutputFormat.NONE) {
+            Files.createDirectories(Path.of(params.output()));
+        }
+
+        SplittableRandom seeds = new SplittableRandom(seed);
+        for (int run = 0; run < params.repetitions(); run++) {
+            runOnce(run, seeds.split());
+            out.flush();
+        }
+        if (params.repetitions() > 1) {
+            printSummary();
+            if (params.stats()) {
+                out.println("search, all runs: " + searchTotals);
+            }
+        }
+    }
+
+    private long seed() {
+        return params.seed() != null ? params.seed() : ThreadLocalRandom.current().nextLong();
+    }
+
+    private void runOnce(int run, RandomGenerator random) throws IOException {
+        long time = System.nanoTime();
+        Maze maze = params.algorithm().generator().generate(params.height(), params.width(), random);
+        time = lap(Stage.GENERATE, run, time);
+
+        if (params.specialCells() > 0) {
+            if (params.clustered()) {
+                new NoiseTerrain(random.nextLong(), params.specialCells()).apply(maze);
+            } else {
+                MazeUtils.addSpecialCells(maze, params.specialCells(), random);
+            }
+        }
+        time = lap(Stage.TERRAIN, run, time);
+
+        MazeGraph graph = new MazeGraph(maze);
+        graph.buildGraph();
+        time = lap(Stage.GRAPH, run, time);
+
+        Endpoints endpoints = selectEndpoints(maze, random);
+        time = lap(Stage.ENDPOINTS, run, time);
+
+        SearchStats stats = params.stats() ? new SearchStats() : null;
+        CompactPath path = params.pathfinder().pathfinder()
+            .findPath(graph, endpoints.start(), endpoints.end(), SearchBudget.unlimited(), stats).path();
+        time = lap(Stage.SOLVE, run, time);
+
+        export(maze, path, endpoints, run);
+        lap(Stage.EXPORT, run, time);
+
+        StringBuilder line = new StringBuilder("run ").append(run + 1).append(": ");
+        for (Stage stage : STAGES) {
+            if (stage.ordinal() > 0) {
+                line.append(", ");
+            }
+            line.append(stage.label()).append(' ').append(millis(timings[stage.ordinal()][run]));
+        }
+        if (path.isEmpty()) {
+            line.append(", path not found");
+        } else {
+            line.append(", path ").append(path.length()).append(" cells, cost ").append(path.cost(maze.maze()));
+        }
+        out.println(line);
+        if (stats != null) {
+            out.println("  search: " + stats);
+            searchTotals.add(stats);
+        }
+    }
+
+    private long lap(Stage stage, int run, long start) {
+        long now = System.nanoTime();
+        timings[stage.ordinal()][run] = now - start;
+        return now;
+    }
+
+    private Endpoints selectEndpoints(Maze maze, RandomGenerator random) {
+        return switch (params.endpoints()) {
+            case HARDEST -> endpointSelector.hardest(maze);
+            case SAMPLE -> endpointSelector.sample(maze, EndpointSelector.DEFAULT_PERCENTILE, random);
+            case CORNERS -> corners(maze);
+        };
+    }
+
+    /**
+     * Picks the first and the last open cell in memory order.
+     */
+    private static Endpoints corners(Maze maze) {
+        Cell[][] cells = maze.maze();
+        int first = -1;
+        int last = -1;
+        for (int x = 0; x < maze.width(); x++) {
+            for (int y = 0; y < maze.height(); y++) {
+                if (cells[x][y] != Cell.WALL) {
+                    last = x * maze.height() + y;
+                    if (first < 0) {
+                        first = last;
+                    }
+                }
+            }
+        }
+        if (first < 0) {
+            throw new IllegalArgumentException("The maze has no open cells");
+        }
+        return new Endpoints(new Point(first / maze.height(), first % maze.height()),
+            new Point(last / maze.height(), last % maze.height()), -1);
+    }
+
+    private void export(Maze maze, CompactPath compactPath, Endpoints endpoints, int run) throws IOException {
+        OutputFormat format = params.format();
+        if (format == OutputFormat.NONE) {
+            return;
+        }
+        List<Point> path = compactPath.toList();
+        Path file = Path.of(params.output(), FILE_PREFIX + (run + 1) + '.' + format.extension());
+        switch (format) {
+            case PNG -> new MazeImageExporter(params.cellSize())
+                .export(maze.maze(), path, endpoints.start(), endpoints.end(), file);
+            case SVG -> {
+                try (Writer writer = Files.newBufferedWriter(file)) {
+                    new MazeSvgExporter(params.cellSize())
+                        .export(maze.maze(), path, endpoints.start(), endpoints.end(), writer);
+                }
+            }
+            default -> {
+                try (Writer writer = Files.newBufferedWriter(file)) {
+                    writer.append(renderer.render(maze.maze(), path, endpoints.start(), endpoints.end()));
+                }
+            }
+        }
+    }
+
+    private void printSummary() {
+        for (Stage stage : STAGES) {
+            long[] times = timings[stage.ordinal()];
+            long min = Long.MAX_VALUE;
+            long max = 0;
+            long total = 0;
+            for (long time : times) {
+                min = Math.min(min, time);
+                max = Math.max(max, time);
+                total += time;
+            }
+            out.println(stage.label() + ": min " + millis(min) + ", mean " + millis(total / times.length)
+                + ", max " + millis(max));
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f ms", nanos / NANOS_PER_MILLI);
+    }
+}
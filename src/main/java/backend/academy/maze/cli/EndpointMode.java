@@ -0,0 +1,19 @@
+package backend.academy.maze.cli;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The ways the batch CLI chooses the start and end points of a maze.
+ *
+ * @see backend.academy.maze.routing.EndpointSelector
+ */
+@Getter
+@AllArgsConstructor
+public enum EndpointMode {
+    HARDEST("The two points farthest apart"),
+    SAMPLE("A random pair among the hardest"),
+    CORNERS("The top left and bottom right open cells");
+
+    private final String description; // Mode description for the usage text
+}
@@ -0,0 +1,19 @@
+package backend.academy.maze.cli;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The formats the batch CLI can write a solved maze in. Each format except {@link #NONE}
+ * writes one file per run with the given extension.
+ */
+@Getter
+@AllArgsConstructor
+public enum OutputFormat {
+    NONE(""),
+    TEXT("txt"),
+    PNG("png"),
+    SVG("svg");
+
+    private final String extension; // File name extension, without the dot
+}
@@ -0,0 +1,20 @@
+package backend.academy.maze.cli;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The stages of the batch pipeline, in execution order. The batch CLI times each of them separately.
+ */
+@Getter
+@AllArgsConstructor
+public enum Stage {
+    GENERATE("generate"),
+    TERRAIN("terrain"),
+    GRAPH("graph"),
+    ENDPOINTS("endpoints"),
+    SOLVE("solve"),
+    EXPORT("export");
+
+    private final String label; // Column label in the report
+}
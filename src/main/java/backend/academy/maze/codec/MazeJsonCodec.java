@@ -0,0 +1,339 @@
+package backend.academy.maze.codec;
+
+import backend.academy.maze.graph.PathDirection;
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import backend.academy.maze.routing.CompactPath;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Reads and writes mazes and paths as JSON on Jackson's streaming API, without building a tree
+ * or binding objects.
+ *
+ * <p>A maze is an object with {@code height} (the number of rows), {@code width} (the cells per
+ * row), {@code encoding} and {@code rows}. With {@link RowEncoding#SYMBOLS} every row is a string
+ * of cell symbols; with {@link RowEncoding#PACKED} every row is a base64 string of cell ordinals
+ * packed most significant bit first into {@code bits} bits each, two bits for the current cell
+ * types. The header fields must come before the rows; unknown fields are skipped, so mazes can be
+ * embedded in larger objects.</p>
+ *
+ * <p>A path is an object with its {@code start} as {@code [x, y]} and its {@code moves} as a string
+ * of {@link PathDirection} symbols, one per step; an empty path has no start and no moves.</p>
+ */
+@UtilityClass
+public class MazeJsonCodec {
+    private static final String HEIGHT = "height";
+    private static final String WIDTH = "width";
+    private static final String ENCODING = "encoding";
+    private static final String BITS = "bits";
+    private static final String ROWS = "rows";
+    private static final String START = "start";
+    private static final String MOVES = "moves";
+    private static final String POINT_EXPECTED = "Expected a point as [x, y]";
+
+    private static final Cell[] CELLS = Cell.values();
+    private static final int BITS_PER_CELL = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(CELLS.length - 1));
+    private static final int SYMBOL_RANGE = 128;
+    private static final Cell[] CELLS_BY_SYMBOL = cellsBySymbol();
+
+    /**
+     * Writes the maze as a JSON object.
+     *
+     * @param generator the generator to write to
+     * @param maze the maze
+     * @param encoding the encoding of the rows
+     * @throws IOException if the generator fails
+     */
+    public static void writeMaze(JsonGenerator generator, Maze maze, RowEncoding encoding) throws IOException {
+        generator.writeStartObject();
+        writeMazeFields(generator, maze, encoding);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the fields of the maze into the current object, so callers can add fields of their own.
+     *
+     * @param generator the generator to write to, positioned inside an object
+     * @param maze the maze
+     * @param encoding the encoding of the rows
+     * @throws IOException if the generator fails
+     */
+    public static void writeMazeFields(JsonGenerator generator, Maze maze, RowEncoding encoding) throws IOException {
+        Cell[][] cells = maze.maze();
+        int columns = maze.height();
+        generator.writeNumberField(HEIGHT, maze.width());
+        generator.writeNumberField(WIDTH, columns);
+        generator.writeStringField(ENCODING, encoding.label());
+        if (encoding == RowEncoding.PACKED) {
+            generator.writeNumberField(BITS, BITS_PER_CELL);
+        }
+
+        generator.writeArrayFieldStart(ROWS);
+        if (encoding == RowEncoding.PACKED) {
+            byte[] buffer = new byte[packedLength(columns, BITS_PER_CELL)];
+            for (Cell[] row : cells) {
+                pack(row, buffer);
+                generator.writeBinary(buffer, 0, buffer.length);
+            }
+        } else {
+            char[] buffer = new char[columns];
+            for (Cell[] row : cells) {
+                for (int y = 0; y < columns; y++) {
+                    buffer[y] = row[y].symbol();
+                }
+                generator.writeString(buffer, 0, columns);
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Reads a maze object. The parser may be positioned before or at the start of the object; it is
+     * left at its end.
+     *
+     * @param parser the parser to read from
+     * @return the maze
+     * @throws IOException if the parser fails or the input is not a valid maze
+     */
+    public static Maze readMaze(JsonParser parser) throws IOException {
+        expectStartObject(parser);
+        int height = -1;
+        int width = -1;
+        int bits = BITS_PER_CELL;
+        RowEncoding encoding = RowEncoding.SYMBOLS;
+        List<Cell[]> rows = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case HEIGHT -> height = parser.getIntValue();
+                case WIDTH -> width = parser.getIntValue();
+                case BITS -> bits = parser.getIntValue();
+                case ENCODING -> encoding = encoding(parser);
+                case ROWS -> rows = readRows(parser, encoding, width, bits);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (rows == null) {
+            throw new JsonParseException(parser, "Maze without rows");
+        }
+        if (height >= 0 && rows.size() != height) {
+            throw new JsonParseException(parser, "Expected " + height + " rows, found " + rows.size());
+        }
+        int columns = rows.isEmpty() ? Math.max(0, width) : rows.getFirst().length;
+        return new Maze(rows.toArray(new Cell[0][]), rows.size(), columns);
+    }
+
+    /**
+     * Writes the path as a JSON object.
+     *
+     * @param generator the generator to write to
+     * @param path the points of the path, each a neighbor of the previous one
+     * @throws IOException if the generator fails
+     * @throws IllegalArgumentException if two consecutive points are not neighbors
+     */
+    public static void writePath(JsonGenerator generator, List<Point> path) throws IOException {
+        writePath(generator, CompactPath.of(path));
+    }
+
+    /**
+     * Writes the path as a JSON object straight from its packed steps.
+     *
+     * @param generator the generator to write to
+     * @param path the path
+     * @throws IOException if the generator fails
+     */
+    public static void writePath(JsonGenerator generator, CompactPath path) throws IOException {
+        generator.writeStartObject();
+        if (!path.isEmpty()) {
+            generator.writeFieldName(START);
+            writePoint(generator, path.start());
+
+            char[] moves = new char[path.moves()];
+            for (int i = 0; i < moves.length; i++) {
+                moves[i] = path.direction(i).symbol();
+            }
+            generator.writeFieldName(MOVES);
+            generator.writeString(moves, 0, moves.length);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a point as {@code [x, y]}.
+     *
+     * @param generator the generator to write to
+     * @param point the point
+     * @throws IOException if the generator fails
+     */
+    public static void writePoint(JsonGenerator generator, Point point) throws IOException {
+        generator.writeStartArray();
+        generator.writeNumber(point.x());
+        generator.writeNumber(point.y());
+        generator.writeEndArray();
+    }
+
+    /**
+     * Reads a path object. The parser may be positioned before or at the start of the object; it is
+     * left at its end.
+     *
+     * @param parser the parser to read from
+     * @return the points of the path
+     * @throws IOException if the parser fails or the input is not a valid path
+     */
+    public static List<Point> readPath(JsonParser parser) throws IOException {
+        expectStartObject(parser);
+        Point start = null;
+        String moves = "";
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case START -> start = readPoint(parser);
+                case MOVES -> moves = parser.getText();
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (start == null) {
+            if (!moves.isEmpty()) {
+                throw new JsonParseException(parser, "Path moves without a start");
+            }
+            return List.of();
+        }
+        List<Point> path = new ArrayList<>(moves.length() + 1);
+        Point current = start;
+        path.add(current);
+        for (int i = 0; i < moves.length(); i++) {
+            try {
+                current = PathDirection.of(moves.charAt(i)).apply(current);
+            } catch (IllegalArgumentException e) {
+                throw new JsonParseException(parser, e.getMessage(), e);
+            }
+            path.add(current);
+        }
+        return path;
+    }
+
+    private static List<Cell[]> readRows(JsonParser parser, RowEncoding encoding, int width, int bits)
+            throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of rows");
+        }
+        if (encoding == RowEncoding.PACKED && (width < 0 || bits < 1 || bits > Byte.SIZE)) {
+            throw new JsonParseException(parser, "Packed rows need a width and 1 to 8 bits per cell");
+        }
+        List<Cell[]> rows = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            Cell[] row = encoding == RowEncoding.PACKED
+                ? unpack(parser, parser.getBinaryValue(), width, bits)
+                : parseSymbols(parser);
+            if (!rows.isEmpty() && row.length != rows.getFirst().length) {
+                throw new JsonParseException(parser, "Rows of different widths");
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static Cell[] parseSymbols(JsonParser parser) throws IOException {
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        Cell[] row = new Cell[parser.getTextLength()];
+        for (int y = 0; y < row.length; y++) {
+            char symbol = text[offset + y];
+            Cell cell = symbol < SYMBOL_RANGE ? CELLS_BY_SYMBOL[symbol] : null;
+            if (cell == null) {
+                throw new JsonParseException(parser, "Unknown cell symbol: " + symbol);
+            }
+            row[y] = cell;
+        }
+        return row;
+    }
+
+    private static void pack(Cell[] row, byte[] buffer) {
+        Arrays.fill(buffer, (byte) 0);
+        int bit = 0;
+        for (Cell cell : row) {
+            int ordinal = cell.ordinal();
+            for (int i = BITS_PER_CELL - 1; i >= 0; i--, bit++) {
+                if ((ordinal >> i & 1) != 0) {
+                    buffer[bit / Byte.SIZE] |= (byte) (1 << (Byte.SIZE - 1 - bit % Byte.SIZE));
+                }
+            }
+        }
+    }
+
+    private static Cell[] unpack(JsonParser parser, byte[] packed, int width, int bits) throws IOException {
+        if (packed.length != packedLength(width, bits)) {
+            throw new JsonParseException(parser, "Packed row of " + packed.length + " bytes for " + width + " cells");
+        }
+        Cell[] row = new Cell[width];
+        int bit = 0;
+        for (int y = 0; y < width; y++) {
+            int ordinal = 0;
+            for (int i = 0; i < bits; i++, bit++) {
+                ordinal = ordinal << 1 | packed[bit / Byte.SIZE] >> (Byte.SIZE - 1 - bit % Byte.SIZE) & 1;
+            }
+            if (ordinal >= CELLS.length) {
+                throw new JsonParseException(parser, "Unknown cell ordinal: " + ordinal);
+            }
+            row[y] = CELLS[ordinal];
+        }
+        return row;
+    }
+
+    private static Point readPoint(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY
+            || parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+            throw new JsonParseException(parser, POINT_EXPECTED);
+        }
+        int x = parser.getIntValue();
+        if (parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+            throw new JsonParseException(parser, POINT_EXPECTED);
+        }
+        int y = parser.getIntValue();
+        if (parser.nextToken() != JsonToken.END_ARRAY) {
+            throw new JsonParseException(parser, POINT_EXPECTED);
+        }
+        return new Point(x, y);
+    }
+
+    private static RowEncoding encoding(JsonParser parser) throws IOException {
+        try {
+            return RowEncoding.of(parser.getText());
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException(parser, e.getMessage(), e);
+        }
+    }
+
+    private static void expectStartObject(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an object, found " + token);
+        }
+    }
+
+    private static int packedLength(int width, int bits) {
+        return (int) (((long) width * bits + Byte.SIZE - 1) / Byte.SIZE);
+    }
+
+    private static Cell[] cellsBySymbol() {
+        Cell[] table = new Cell[SYMBOL_RANGE];
+        for (Cell cell : CELLS) {
+            table[cell.symbol()] = cell;
+        }
+        return table;
+    }
+}
@@ -0,0 +1,32 @@
+package backend.academy.maze.codec;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The encodings of maze rows in the JSON form written by {@link MazeJsonCodec}.
+ */
+@Getter
+@AllArgsConstructor
+public enum RowEncoding {
+    SYMBOLS("symbols"), // One string per row, one cell symbol per character
+    PACKED("packed");   // One base64 string per row, cell ordinals packed into as few bits as possible
+
+    private final String label; // Value of the encoding field
+
+    /**
+     * Returns the encoding with the given label.
+     *
+     * @param label the value of the encoding field
+     * @return the encoding
+     * @throws IllegalArgumentException if no encoding has the label
+     */
+    public static RowEncoding of(String label) {
+        for (RowEncoding encoding : values()) {
+            if (encoding.label.equals(label)) {
+                return encoding;
+            }
+        }
+        throw new IllegalArgumentException("Unknown row encoding: " + label);
+    }
+}
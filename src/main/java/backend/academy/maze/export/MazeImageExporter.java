@@ -0,0 +1,195 @@
+package backend.academy.maze.export;
+
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.jfr.RenderEvent;
+import backend.academy.maze.model.Cell;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.IndexColorModel;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import javax.imageio.ImageIO;
+
+/**
+ * Exports a maze, optionally with a path and its endpoints, as an image: maze row {@code maze[x]}
+ * becomes a band of pixel rows and every cell a square of {@code cellSize} pixels.
+ *
+ * <p>The image uses an 8-bit indexed color model with one palette entry per cell type followed
+ * by the path, start and end colors, so a pixel is the ordinal of its cell and the raster is
+ * filled straight from the grid. Bands of maze rows are filled in parallel: the first pixel row
+ * of every maze row is written cell by cell and copied to the remaining rows of the square. The
+ * path is drawn over the finished raster.</p>
+ */
+public class MazeImageExporter {
+
+    /**
+     * Default side of a cell, in pixels.
+     */
+    public static final int DEFAULT_CELL_SIZE = 4;
+
+    private static final Cell[] CELLS = Cell.values();
+    private static final byte PATH = (byte) CELLS.length;
+    private static final byte START = (byte) (CELLS.length + 1);
+    private static final byte END = (byte) (CELLS.length + 2);
+    private static final IndexColorModel PALETTE = buildPalette();
+
+    private static final int BAND_ROWS = 64;
+    private static final int BITS_PER_PIXEL = 8;
+    private static final String FORMAT = "png";
+    private static final String NO_WRITER = "No image writer for ";
+
+    private final int cellSize;
+
+    /**
+     * Constructs an exporter with the default cell size.
+     */
+    public MazeImageExporter() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Constructs an exporter.
+     *
+     * @param cellSize the side of a cell, in pixels
+     * @throws IllegalArgumentException if the cell size is not positive
+     */
+    public MazeImageExporter(int cellSize) {
+        if (cellSize < 1) {
+            throw new IllegalArgumentException("Invalid cell size: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Renders the maze with a path and writes it to a PNG file.
+     *
+     * @param maze the cells of the maze
+     * @param path the points of the path
+     * @param startPoint the start point, or {@code null}
+     * @param endPoint the end point, or {@code null}
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void export(Cell[][] maze, List<Point> path, Point startPoint, Point endPoint, Path file)
+            throws IOException {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        BufferedImage image = render(maze, path, startPoint, endPoint);
+        if (!ImageIO.write(image, FORMAT, file.toFile())) {
+            throw new IOException(NO_WRITER + FORMAT);
+        }
+        event.finish(FORMAT, maze.length, maze.length == 0 ? 0 : maze[0].length, path.size());
+    }
+
+    /**
+     * Renders the maze with a path and writes it as PNG to a stream, which is not closed.
+     *
+     * @param maze the cells of the maze
+     * @param path the points of the path
+     * @param startPoint the start point, or {@code null}
+     * @param endPoint the end point, or {@code null}
+     * @param out the stream to write
+     * @throws IOException if the stream fails
+     */
+    public void export(Cell[][] maze, List<Point> path, Point startPoint, Point endPoint, OutputStream out)
+            throws IOException {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        BufferedImage image = render(maze, path, startPoint, endPoint);
+        if (!ImageIO.write(image, FORMAT, out)) {
+            throw new IOException(NO_WRITER + FORMAT);
+        }
+        event.finish(FORMAT, maze.length, maze.length == 0 ? 0 : maze[0].length, path.size());
+    }
+
+    /**
+     * Renders the maze with a path. The start and end colors take precedence over the path color.
+     *
+     * @param maze the cells of the maze
+     * @param path the points of the path
+     * @param startPoint the start point, or {@code null}
+     * @param endPoint the end point, or {@code null}
+     * @return an indexed image of {@code height * cellSize} by {@code width * cellSize} pixels
+     * @throws IllegalArgumentException if the image would have more pixels than an array can hold
+     */
+    public BufferedImage render(Cell[][] maze, List<Point> path, Point startPoint, Point endPoint) {
+        int width = maze.length;
+        int height = width == 0 ? 0 : maze[0].length;
+        long pixels = (long) width * height * cellSize * cellSize;
+        if (pixels > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Image too large: " + width + "x" + height + " cells of " + cellSize);
+        }
+
+        int imageWidth = Math.max(1, height * cellSize);
+        int imageHeight = Math.max(1, width * cellSize);
+        BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_BYTE_INDEXED, PALETTE);
+        byte[] raster = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+
+        int bands = (width + BAND_ROWS - 1) / BAND_ROWS;
+        IntStream.range(0, bands).parallel().forEach(band -> {
+            int end = Math.min(width, (band + 1) * BAND_ROWS);
+            for (int x = band * BAND_ROWS; x < end; x++) {
+                fillRow(raster, maze[x], x * cellSize * imageWidth, imageWidth);
+            }
+        });
+
+        for (Point point : path) {
+            fillCell(raster, point, PATH, width, height, imageWidth);
+        }
+        fillCell(raster, endPoint, END, width, height, imageWidth);
+        fillCell(raster, startPoint, START, width, height, imageWidth);
+        return image;
+    }
+
+    /**
+     * Writes the pixels of one maze row, starting at the given raster offset.
+     */
+    private void fillRow(byte[] raster, Cell[] row, int offset, int imageWidth) {
+        int position = offset;
+        for (Cell cell : row) {
+            byte index = (byte) cell.ordinal();
+            for (int i = 0; i < cellSize; i++) {
+                raster[position++] = index;
+            }
+        }
+        for (int line = 1; line < cellSize; line++) {
+            System.arraycopy(raster, offset, raster, offset + line * imageWidth, imageWidth);
+        }
+    }
+
+    private void fillCell(byte[] raster, Point point, byte index, int width, int height, int imageWidth) {
+        if (point == null || point.x() < 0 || point.y() < 0 || point.x() >= width || point.y() >= height) {
+            return;
+        }
+        int offset = point.x() * cellSize * imageWidth + point.y() * cellSize;
+        for (int line = 0; line < cellSize; line++) {
+            int start = offset + line * imageWidth;
+            Arrays.fill(raster, start, start + cellSize, index);
+        }
+    }
+
+    private static IndexColorModel buildPalette() {
+        int size = CELLS.length + END - PATH + 1;
+        byte[] red = new byte[size];
+        byte[] green = new byte[size];
+        byte[] blue = new byte[size];
+        for (int i = 0; i < size; i++) {
+            int rgb = i < CELLS.length ? MazePalette.color(CELLS[i]) : overlayColor((byte) i);
+            red[i] = (byte) (rgb >> Byte.SIZE * 2);
+            green[i] = (byte) (rgb >> Byte.SIZE);
+            blue[i] = (byte) rgb;
+        }
+        return new IndexColorModel(BITS_PER_PIXEL, size, red, green, blue);
+    }
+
+    private static int overlayColor(byte index) {
+        if (index == PATH) {
+            return MazePalette.PATH_COLOR;
+        }
+        return index == START ? MazePalette.START_COLOR : MazePalette.END_COLOR;
+    }
+}
@@ -0,0 +1,36 @@
+package backend.academy.maze.export;
+
+import backend.academy.maze.model.Cell;
+import lombok.experimental.UtilityClass;
+
+/**
+ * The colors shared by the maze exporters, as {@code 0xRRGGBB} values.
+ */
+@UtilityClass
+class MazePalette {
+    static final int PATH_COLOR = 0xE53935;
+    static final int START_COLOR = 0x2E7D32;
+    static final int END_COLOR = 0x1565C0;
+
+    private static final int WALL_COLOR = 0x202020;
+    private static final int ROAD_COLOR = 0xF5F5F5;
+    private static final int SWAMP_COLOR = 0x6B8E23;
+    private static final int ACCELERATED_PATH_COLOR = 0x87CEEB;
+    private static final int OTHER_COLOR = 0xA0A0A0;
+
+    /**
+     * Returns the color of a cell type; types without their own color are gray.
+     *
+     * @param cell the cell type
+     * @return the color of the cell type
+     */
+    static int color(Cell cell) {
+        return switch (cell) {
+            case WALL -> WALL_COLOR;
+            case ROAD -> ROAD_COLOR;
+            case SWAMP -> SWAMP_COLOR;
+            case ACCELERATED_PATH -> ACCELERATED_PATH_COLOR;
+            default -> OTHER_COLOR;
+        };
+    }
+}
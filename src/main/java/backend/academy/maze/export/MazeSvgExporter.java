@@ -0,0 +1,173 @@
+package backend.academy.maze.export;
+
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.jfr.RenderEvent;
+import backend.academy.maze.model.Cell;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Exports a maze, optionally with a path and its endpoints, as an SVG document streamed to a
+ * {@link Writer}. One user unit of the drawing is one cell; maze row {@code maze[x]} is drawn at
+ * {@code y = x}.
+ *
+ * <p>The document has a road-colored background, and every horizontal run of equal non-road cells
+ * in a row becomes a single rectangle styled by a class per cell type, so the output grows with the
+ * number of runs rather than the number of cells. The path is one polyline that keeps only the
+ * points where it turns. The document is collected in a buffer that is handed to the writer every
+ * few kilobytes, so memory stays bounded for any maze size; the writer is not closed by this class.</p>
+ */
+public class MazeSvgExporter {
+
+    /**
+     * Default side of a cell, in pixels of the rendered document.
+     */
+    public static final int DEFAULT_CELL_SIZE = 8;
+
+    private static final Cell[] CELLS = Cell.values();
+    private static final int FLUSH_THRESHOLD = 8192;
+    private static final String CLOSE_TAG = "\"/>\n";
+    private static final String COLOR_FORMAT = "#%06X";
+    private static final String HEIGHT_ATTRIBUTE = "\" height=\"";
+
+    private final int cellSize;
+
+    /**
+     * Constructs an exporter with the default cell size.
+     */
+    public MazeSvgExporter() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Constructs an exporter.
+     *
+     * @param cellSize the side of a cell, in pixels of the rendered document
+     * @throws IllegalArgumentException if the cell size is not positive
+     */
+    public MazeSvgExporter(int cellSize) {
+        if (cellSize < 1) {
+            throw new IllegalArgumentException("Invalid cell size: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Writes the maze with a path as an SVG document.
+     *
+     * @param maze the cells of the maze
+     * @param path the points of the path
+     * @param startPoint the start point, or {@code null}
+     * @param endPoint the end point, or {@code null}
+     * @param writer the destination of the document
+     * @throws IOException if the writer fails
+     */
+    public void export(Cell[][] maze, List<Point> path, Point startPoint, Point endPoint, Writer writer)
+            throws IOException {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        int width = maze.length;
+        int height = width == 0 ? 0 : maze[0].length;
+        StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD * 2);
+
+        buffer.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(height * cellSize)
+            .append(HEIGHT_ATTRIBUTE).append(width * cellSize)
+            .append("\" viewBox=\"0 0 ").append(height).append(' ').append(width)
+            .append("\" shape-rendering=\"crispEdges\">\n<style>");
+        for (Cell cell : CELLS) {
+            if (cell != Cell.ROAD) {
+                buffer.append(".c").append(cell.ordinal()).append("{fill:")
+                    .append(String.format(COLOR_FORMAT, MazePalette.color(cell))).append('}');
+            }
+        }
+        buffer.append("</style>\n<rect width=\"").append(height).append(HEIGHT_ATTRIBUTE).append(width)
+            .append("\" fill=\"").append(String.format(COLOR_FORMAT, MazePalette.color(Cell.ROAD))).append(CLOSE_TAG);
+
+        for (int x = 0; x < width; x++) {
+            appendRuns(buffer, maze[x], x);
+            if (buffer.length() >= FLUSH_THRESHOLD) {
+                flush(buffer, writer);
+            }
+        }
+
+        buffer.append("<g transform=\"translate(0.5 0.5)\" stroke-linecap=\"round\" stroke-linejoin=\"round\">\n");
+        appendPath(buffer, path, writer);
+        appendEndpoint(buffer, startPoint, MazePalette.START_COLOR);
+        appendEndpoint(buffer, endPoint, MazePalette.END_COLOR);
+        buffer.append("</g>\n</svg>\n");
+        flush(buffer, writer);
+        event.finish("svg", width, height, path.size());
+    }
+
+    /**
+     * Appends one rectangle for every run of equal non-road cells in the row.
+     */
+    private static void appendRuns(StringBuilder buffer, Cell[] row, int x) {
+        int y = 0;
+        while (y < row.length) {
+            Cell cell = row[y];
+            int start = y;
+            while (y < row.length && row[y] == cell) {
+                y++;
+            }
+            if (cell != Cell.ROAD) {
+                buffer.append("<rect class=\"c").append(cell.ordinal())
+                    .append("\" x=\"").append(start).append("\" y=\"").append(x)
+                    .append("\" width=\"").append(y - start).append(HEIGHT_ATTRIBUTE).append(1).append(CLOSE_TAG);
+            }
+        }
+    }
+
+    /**
+     * Appends the path as a polyline through the cell centers, skipping points where it goes straight on.
+     * The buffer is flushed while the points are written, so a long path does not grow it unbounded.
+     */
+    private static void appendPath(StringBuilder buffer, List<Point> path, Writer writer) throws IOException {
+        if (path.size() < 2) {
+            return;
+        }
+        buffer.append("<polyline fill=\"none\" stroke=\"").append(String.format(COLOR_FORMAT, MazePalette.PATH_COLOR))
+            .append("\" stroke-width=\"0.4\" points=\"");
+        Point previous = path.getFirst();
+        appendPoint(buffer, previous);
+        for (int i = 1; i < path.size(); i++) {
+            Point current = path.get(i);
+            boolean last = i == path.size() - 1;
+            if (last || !collinear(previous, current, path.get(i + 1))) {
+                buffer.append(' ');
+                appendPoint(buffer, current);
+                if (buffer.length() >= FLUSH_THRESHOLD) {
+                    flush(buffer, writer);
+                }
+            }
+            previous = current;
+        }
+        buffer.append(CLOSE_TAG);
+    }
+
+    private static void appendEndpoint(StringBuilder buffer, Point point, int color) {
+        if (point == null) {
+            return;
+        }
+        buffer.append("<circle cx=\"").append(point.y()).append("\" cy=\"").append(point.x())
+            .append("\" r=\"0.35\" fill=\"").append(String.format(COLOR_FORMAT, color)).append(CLOSE_TAG);
+    }
+
+    private static void appendPoint(StringBuilder buffer, Point point) {
+        buffer.append(point.y()).append(',').append(point.x());
+    }
+
+    private static boolean collinear(Point previous, Point current, Point next) {
+        int dx1 = current.x() - previous.x();
+        int dy1 = current.y() - previous.y();
+        int dx2 = next.x() - current.x();
+        int dy2 = next.y() - current.y();
+        return dx1 * dy2 == dy1 * dx2 && dx1 * dx2 + dy1 * dy2 > 0;
+    }
+
+    private static void flush(StringBuilder buffer, Writer writer) throws IOException {
+        writer.append(buffer);
+        buffer.setLength(0);
+    }
+}
@@ -2,7 +2,6 @@ package backend.academy.maze.game;
 
 import backend.academy.maze.game.utils.ConsoleSizeUtil;
 import backend.academy.maze.game.utils.Pair;
-import backend.academy.maze.generation.MazeGenerator;
 import backend.academy.maze.generation.MazeGeneratorType;
 import backend.academy.maze.generation.factory.MazeGeneratorFactory;
 import backend.academy.maze.graph.MazeGraph;
@@ -10,11 +9,18 @@ import backend.academy.maze.graph.Point;
 import backend.academy.maze.model.Cell;
 import backend.academy.maze.model.Maze;
 import backend.academy.maze.model.utils.MazeUtils;
+import backend.academy.maze.pool.MazePool;
+import backend.academy.maze.pool.PooledMaze;
+import backend.academy.maze.routing.CompactPath;
+import backend.academy.maze.routing.EndpointSelector;
+import backend.academy.maze.routing.Endpoints;
 import backend.academy.maze.routing.Pathfinder;
 import backend.academy.maze.routing.PathfinderType;
 import backend.academy.maze.routing.factory.PathfinderFactory;
+import backend.academy.maze.terrain.NoiseTerrain;
 import backend.academy.maze.ui.UI;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * This class represents the main game logic for the maze game.
@@ -22,15 +28,23 @@ import java.util.List;
  * select start and end points, and solve the maze using a pathfinding algorithm.
  */
 public class MazeGame {
+    private static final int NO_SPECIAL_CELLS_CHOICE = 3; // The last option of the special cells menu
+    private static final int RANDOM_ENDPOINTS_CHOICE = 3;  // The last option of the endpoints menu
+
     private final UI ui;
+    private final MazePool mazePool;
+    private final EndpointSelector endpointSelector = new EndpointSelector();
+    private MazeGeneratorType lastGeneratorType;  // The algorithm chosen in the previous round
 
     /**
-     * Constructs a new MazeGame instance with a user interface.
+     * Constructs a new MazeGame instance with a user interface and a maze pool.
      *
      * @param ui the UI interface to handle user interaction and display
+     * @param mazePool the pool that serves pre-generated mazes, owned and closed by the caller
      */
-    public MazeGame(UI ui) {
+    public MazeGame(UI ui, MazePool mazePool) {
         this.ui = ui;
+        this.mazePool = mazePool;
     }
 
     /**
@@ -49,28 +63,44 @@ public class MazeGame {
             int width = size.first();
             int height = size.second();
 
+            // Pre-generate mazes of this size with the last algorithm while the user picks one
+            if (lastGeneratorType != null) {
+                mazePool.warm(lastGeneratorType, width, height);
+            }
+
             // Select maze generation method
             int generatorChoice = getValidChoice(
                     MazeGeneratorFactory.getGeneratorOptions(),
                     MazeGeneratorType.values().length);
-            MazeGenerator generator = MazeGeneratorFactory.getGenerator(generatorChoice);
-            Maze maze = generator.generate(width, height);
+            lastGeneratorType = MazeGeneratorFactory.getGeneratorType(generatorChoice);
+            PooledMaze pooledMaze = mazePool.take(lastGeneratorType, width, height);
+            Maze maze = pooledMaze.maze();
+            MazeGraph mazeGraph = pooledMaze.graph();
             ui.showMaze(maze.maze());
 
             // Option to add special cells to the maze
             int specialCellsChoice = getValidChoice(
-                    "Do you want to add special cells?\n1. Yes\n2. No", 2);
-            if (specialCellsChoice == 1) {
+                    "Do you want to add special cells?\n1. Yes, scattered\n2. Yes, clustered terrain\n3. No",
+                    NO_SPECIAL_CELLS_CHOICE);
+            if (specialCellsChoice != NO_SPECIAL_CELLS_CHOICE) {
                 double percentage = getValidPercentage();
-                MazeUtils.addSpecialCells(maze, percentage);
+                if (specialCellsChoice == 1) {
+                    MazeUtils.addSpecialCells(maze, percentage);
+                } else {
+                    new NoiseTerrain(ThreadLocalRandom.current().nextLong(), percentage).apply(maze);
+                }
+                // Special cells change the edge weights, so the pooled graph is rebuilt
+                mazeGraph = new MazeGraph(maze);
+                mazeGraph.buildGraph();
                 ui.showMessage("Special cells added.");
                 ui.showMaze(maze.maze());
                 ui.showLegend();
             }
 
             // Select start and end points for pathfinding
-            Point startPoint = selectValidPoint(maze, "start point");
-            Point endPoint = selectValidPoint(maze, "end point");
+            Pair<Point, Point> endpoints = selectEndpoints(maze);
+            Point startPoint = endpoints.first();
+            Point endPoint = endpoints.second();
 
             // Select pathfinding algorithm
             int pathfinderChoice = getValidChoice(
@@ -79,19 +109,26 @@ public class MazeGame {
             Pathfinder pathfinder = PathfinderFactory.getPathfinder(pathfinderChoice);
 
             // Find the path
-            MazeGraph mazeGraph = new MazeGraph(maze);
-            mazeGraph.buildGraph();
-            List<Point> path = pathfinder.findPath(mazeGraph, startPoint, endPoint);
+            CompactPath compactPath = pathfinder.findCompactPath(mazeGraph, startPoint, endPoint);
+            List<Point> path = compactPath.toList();
 
             // Check if the path was found
             if (path.isEmpty()) {
                 ui.showMessage("Path not found.");
             } else {
-                ui.showMessage("Path found: " + path);
+                ui.showMessage("Path found: " + compactPath.length() + " cells, cost "
+                        + compactPath.cost(maze.maze()) + ", moves " + compactPath);
                 ui.showMaze(maze.maze(), path, startPoint, endPoint);
                 ui.showLegend();
             }
 
+            // Offer to pan and zoom around mazes that are shown scaled down
+            boolean fits = fitsConsole(maze.width(), maze.height(),
+                    ConsoleSizeUtil.getConsoleHeight(), ConsoleSizeUtil.getConsoleWidth());
+            if (!fits && getValidChoice("Do you want to explore the maze?\n1. Yes\n2. No", 2) == 1) {
+                ui.exploreMaze(maze.maze(), path, startPoint, endPoint);
+            }
+
             // Ask if the player wants to play again
             int continueChoice = getValidChoice("Do you want to play again?\n1. Yes\n2. No", 2);
             playAgain = continueChoice == 1;
@@ -102,7 +139,7 @@ public class MazeGame {
 
     /**
      * Prompts the user to enter valid maze dimensions (width and height).
-     * It checks the console dimensions to ensure the maze fits within the console window.
+     * It checks the console dimensions and warns when the maze will not fit in the console window.
      *
      * @return a pair containing the height and width of the maze
      */
@@ -121,23 +158,32 @@ public class MazeGame {
 
         ui.showMessage("Console size: " + consoleHeight + " rows and " + consoleWidth + " characters.");
 
-        do {
-            ui.showMessage("Enter maze height:");
-            height = getValidSize();
-            ui.showMessage("Enter maze width:");
-            width = getValidSize();
-
-            int requiredWidth = width * 2;
-            if (requiredWidth > consoleWidth || height > consoleHeight) {
-                ui.showMessage("The maze does not fit in the console. Try again.");
-            } else {
-                break;
-            }
-        } while (true);
+        ui.showMessage("Enter maze height:");
+        height = getValidSize();
+        ui.showMessage("Enter maze width:");
+        width = getValidSize();
+
+        if (!fitsConsole(height, width, consoleHeight, consoleWidth)) {
+            ui.showMessage("The maze is larger than the console. It will be shown scaled down, "
+                    + "and you can pan and zoom around it.");
+        }
 
         return new Pair<>(height, width);
     }
 
+    /**
+     * Checks whether a maze fits in the console, every cell taking two characters.
+     *
+     * @param rows the number of rows of the maze
+     * @param cellsPerRow the number of cells in a row
+     * @param consoleHeight the console height in lines
+     * @param consoleWidth the console width in characters
+     * @return {@code true} if the maze fits
+     */
+    private static boolean fitsConsole(int rows, int cellsPerRow, int consoleHeight, int consoleWidth) {
+        return cellsPerRow * 2 <= consoleWidth && rows <= consoleHeight;
+    }
+
     /**
      * Prompts the user to enter a valid choice based on the provided options.
      * It ensures that the choice falls within the valid range.
@@ -193,6 +239,32 @@ public class MazeGame {
         return input;
     }
 
+    /**
+     * Lets the user enter the start and end points or pick them automatically,
+     * either as the two points farthest apart or as a random pair that is hard to solve.
+     *
+     * @param maze the maze object
+     * @return a pair containing the start and end points
+     */
+    private Pair<Point, Point> selectEndpoints(Maze maze) {
+        int choice = getValidChoice(
+                "How do you want to choose start and end points?\n1. Enter coordinates\n2. Farthest apart\n"
+                        + "3. Random, among the hardest",
+                RANDOM_ENDPOINTS_CHOICE);
+        if (choice == 1) {
+            Point startPoint = selectValidPoint(maze, "start point");
+            Point endPoint = selectValidPoint(maze, "end point");
+            return new Pair<>(startPoint, endPoint);
+        }
+
+        Endpoints endpoints = choice == 2
+                ? endpointSelector.hardest(maze)
+                : endpointSelector.sample(maze, EndpointSelector.DEFAULT_PERCENTILE, ThreadLocalRandom.current());
+        ui.showMessage("Start point: " + endpoints.start() + ", end point: " + endpoints.end()
+                + ", path cost: " + endpoints.distance());
+        return new Pair<>(endpoints.start(), endpoints.end());
+    }
+
     /**
      * Prompts the user to select valid coordinates for a point (start or end).
      * Ensures the point is within maze bounds and not a wall.
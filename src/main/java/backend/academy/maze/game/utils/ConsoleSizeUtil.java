@@ -32,6 +32,15 @@ public class ConsoleSizeUtil {
         }
     }
 
+    /**
+     * Returns the system terminal shared by the application.
+     *
+     * @return the terminal, or {@code null} if it could not be initialized
+     */
+    public static Terminal getTerminal() {
+        return terminal;
+    }
+
     /**
      * Returns the current console height. If the terminal is not initialized,
      * returns the default height.
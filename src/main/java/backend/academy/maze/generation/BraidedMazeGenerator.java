@@ -0,0 +1,201 @@
+package backend.academy.maze.generation;
+
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import java.util.random.RandomGenerator;
+
+/**
+ * The BraidedMazeGenerator class implements the {@link MazeGenerator} interface by generating
+ * a perfect maze with another generator and then braiding it: a configurable fraction of the
+ * dead ends is removed by knocking down one wall each, which creates loops and therefore
+ * several routes between cells.
+ *
+ * <p>The braiding itself is available as {@link #braid(Maze, double, RandomGenerator)} for
+ * mazes produced elsewhere. The dead ends are collected in one pass and then visited in a
+ * uniformly random order, so the removed ones are spread evenly over the grid; the dead-end
+ * test and the choice of wall only look at the four neighbors of the current cell.</p>
+ *
+ * @see MazeGenerator
+ */
+public class BraidedMazeGenerator implements MazeGenerator {
+
+    /**
+     * The braid rate of the {@link MazeGeneratorType#BRAIDED} generator.
+     */
+    public static final double DEFAULT_BRAID_RATE = 0.5;
+
+    private static final int STEP_SIZE = 2;
+    private static final int DIRECTIONS = 4;
+
+    // Neighbor offsets: left, right, up, down
+    private static final int[] DX = {-1, 1, 0, 0};
+    private static final int[] DY = {0, 0, -1, 1};
+
+    private final MazeGenerator generator;
+    private final double braidRate;
+
+    /**
+     * Constructs a braiding generator.
+     *
+     * @param generator the generator of the underlying perfect maze
+     * @param braidRate the fraction of dead ends to remove, in {@code [0, 1]}
+     * @throws IllegalArgumentException if the rate is out of range
+     */
+    public BraidedMazeGenerator(MazeGenerator generator, double braidRate) {
+        checkRate(braidRate);
+        this.generator = generator;
+        this.braidRate = braidRate;
+    }
+
+    /**
+     * Generates a maze with the underlying generator and braids it.
+     *
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param random the source of randomness
+     * @return a Maze object representing the generated maze
+     */
+    @Override
+    public Maze generate(int width, int height, RandomGenerator random) {
+        Maze maze = generator.generate(width, height, random);
+        braid(maze, braidRate, random);
+        return maze;
+    }
+
+    /**
+     * Removes dead ends from the maze in place. The dead ends are collected first, and
+     * {@code round(braidRate * deadEnds)} of them are removed, visiting them in random order with a
+     * partial Fisher-Yates shuffle and opening the wall to a cell two steps away. A dead end that
+     * an earlier join has already removed is skipped. Walls leading to another dead end are
+     * preferred, since opening them removes two dead ends at once, and both count against the
+     * budget; with a single dead end left in the budget, a wall leading elsewhere is preferred so
+     * that the budget is not exceeded.
+     *
+     * @param maze the maze to modify
+     * @param braidRate the fraction of dead ends to remove, in {@code [0, 1]}
+     * @param random the source of randomness
+     * @return the number of walls removed
+     * @throws IllegalArgumentException if the rate is out of range
+     */
+    public static int braid(Maze maze, double braidRate, RandomGenerator random) {
+        checkRate(braidRate);
+        Cell[][] cellTypes = maze.maze();
+        int height = maze.height();
+        int[] candidates = new int[DIRECTIONS];
+        int[] deadEnds = collectDeadEnds(cellTypes);
+        long budget = Math.round(braidRate * deadEnds.length);
+        int removed = 0;
+
+        for (int i = 0; i < deadEnds.length && budget > 0; i++) {
+            int j = i + random.nextInt(deadEnds.length - i);
+            int index = deadEnds[j];
+            deadEnds[j] = deadEnds[i];
+            deadEnds[i] = index;
+
+            int x = index / height;
+            int y = index % height;
+            if (openNeighbors(cellTypes, x, y) != 1) {
+                continue; // Already joined to an earlier dead end
+            }
+            int direction = pickWall(cellTypes, x, y, candidates, budget > 1, random);
+            if (direction >= 0) {
+                boolean joinsDeadEnd = openNeighbors(cellTypes,
+                    x + DX[direction] * STEP_SIZE, y + DY[direction] * STEP_SIZE) == 1;
+                cellTypes[x + DX[direction]][y + DY[direction]] = Cell.ROAD;
+                budget -= joinsDeadEnd ? 2 : 1;
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Picks a wall next to the cell that has an open cell behind it. Walls leading to another
+     * dead end are preferred when {@code preferDeadEnds} is set and avoided otherwise, as long as
+     * there is a choice.
+     *
+     * @return the direction of the chosen wall, or {@code -1} if there is none
+     */
+    private static int pickWall(
+            Cell[][] cellTypes, int x, int y, int[] candidates, boolean preferDeadEnds, RandomGenerator random) {
+        int count = 0;
+        int deadEnds = 0;
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            int wx = x + DX[direction];
+            int wy = y + DY[direction];
+            int nx = x + DX[direction] * STEP_SIZE;
+            int ny = y + DY[direction] * STEP_SIZE;
+            if (!inside(cellTypes, nx, ny) || cellTypes[wx][wy] != Cell.WALL || cellTypes[nx][ny] == Cell.WALL) {
+                continue;
+            }
+            // Keep dead-end candidates at the front of the array
+            if (openNeighbors(cellTypes, nx, ny) == 1) {
+                candidates[count++] = candidates[deadEnds];
+                candidates[deadEnds++] = direction;
+            } else {
+                candidates[count++] = direction;
+            }
+        }
+        if (count == 0) {
+            return -1;
+        }
+        if (preferDeadEnds && deadEnds > 0) {
+            return candidates[random.nextInt(deadEnds)];
+        }
+        if (!preferDeadEnds && count > deadEnds) {
+            return candidates[deadEnds + random.nextInt(count - deadEnds)];
+        }
+        return candidates[random.nextInt(count)];
+    }
+
+    /**
+     * Returns the packed indices ({@code x * height + y}) of all dead ends, in memory order.
+     */
+    private static int[] collectDeadEnds(Cell[][] cellTypes) {
+        int height = cellTypes.length == 0 ? 0 : cellTypes[0].length;
+        int count = 0;
+        for (int x = 0; x < cellTypes.length; x++) {
+            for (int y = 0; y < height; y++) {
+                if (isDeadEnd(cellTypes, x, y)) {
+                    count++;
+                }
+            }
+        }
+        int[] deadEnds = new int[count];
+        int next = 0;
+        for (int x = 0; x < cellTypes.length; x++) {
+            for (int y = 0; y < height; y++) {
+                if (isDeadEnd(cellTypes, x, y)) {
+                    deadEnds[next++] = x * height + y;
+                }
+            }
+        }
+        return deadEnds;
+    }
+
+    private static boolean isDeadEnd(Cell[][] cellTypes, int x, int y) {
+        return cellTypes[x][y] != Cell.WALL && openNeighbors(cellTypes, x, y) == 1;
+    }
+
+    private static int openNeighbors(Cell[][] cellTypes, int x, int y) {
+        int open = 0;
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            int nx = x + DX[direction];
+            int ny = y + DY[direction];
+            if (inside(cellTypes, nx, ny) && cellTypes[nx][ny] != Cell.WALL) {
+                open++;
+            }
+        }
+        return open;
+    }
+
+    private static boolean inside(Cell[][] cellTypes, int x, int y) {
+        return x >= 0 && y >= 0 && x < cellTypes.length && y < cellTypes[x].length;
+    }
+
+    private static void checkRate(double braidRate) {
+        if (braidRate < 0 || braidRate > 1) {
+            throw new IllegalArgumentException("Invalid braid rate: " + braidRate);
+        }
+    }
+}
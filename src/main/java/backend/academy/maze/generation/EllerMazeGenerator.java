@@ -0,0 +1,195 @@
+package backend.academy.maze.generation;
+
+import backend.academy.maze.generation.stream.MazeRowSink;
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * The EllerMazeGenerator class implements the {@link MazeGenerator} interface
+ * to generate mazes using Eller's algorithm. The maze is built one row at a time while
+ * only the set membership of the current row is kept, so rows can be streamed to a
+ * {@link MazeRowSink} as soon as they are final.
+ *
+ * <p>Memory use of {@link #stream} is proportional to the row length ({@code height})
+ * and does not depend on the number of rows ({@code width}).</p>
+ *
+ * @see MazeGenerator
+ * @see MazeRowSink
+ */
+public class EllerMazeGenerator implements MazeGenerator {
+    private static final int STEP_SIZE = 2;
+
+    /**
+     * Generates a maze of the specified width and height drawing all randomness from the given generator.
+     *
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param random the source of randomness
+     * @return a Maze object representing the generated maze
+     */
+    @Override
+    public Maze generate(int width, int height, RandomGenerator random) {
+        Cell[][] cellTypes = new Cell[width][];
+        stream(width, height, random, (x, row) -> cellTypes[x] = row.clone());
+        return new Maze(cellTypes, width, height);
+    }
+
+    /**
+     * Generates a maze row by row and passes every row to the sink as soon as it is complete.
+     *
+     * @param width the number of rows of the maze
+     * @param height the number of cells in each row
+     * @param random the source of randomness
+     * @param sink the consumer of the rows
+     */
+    public void stream(int width, int height, RandomGenerator random, MazeRowSink sink) {
+        Cell[] row = new Cell[height];
+        Arrays.fill(row, Cell.WALL);
+        sink.acceptRow(0, row);
+
+        int rows = width / STEP_SIZE;
+        int columns = height / STEP_SIZE;
+        int filled = 1;
+        if (rows > 0 && columns > 0) {
+            RowSets sets = new RowSets(columns);
+            for (int i = 0; i < rows; i++) {
+                boolean lastRow = i == rows - 1;
+                int x = i * STEP_SIZE + 1;
+
+                sets.mergeRandomly(random, lastRow, row);
+                sink.acceptRow(x, row);
+
+                if (!lastRow) {
+                    sets.carryDownRandomly(random, row);
+                    sink.acceptRow(x + 1, row);
+                }
+            }
+            filled = rows * STEP_SIZE;
+        }
+
+        // Close the maze with a wall row when the last lattice row is not on the border
+        if (filled < width) {
+            Arrays.fill(row, Cell.WALL);
+            for (int x = filled; x < width; x++) {
+                sink.acceptRow(x, row);
+            }
+        }
+    }
+
+    /**
+     * Set membership of the cells in the current row. Each lattice column {@code j}
+     * (maze column {@code 2 * j + 1}) belongs to a set represented by a union-find
+     * forest that is rebuilt for every row, so all arrays stay the length of one row.
+     */
+    private static final class RowSets {
+        private final int[] parent;
+        private final int[] roots;
+        private final int[] representative;
+        private final int[] memberCount;
+        private final int[] chosen;
+        private final boolean[] hasDown;
+        private final boolean[] down;
+
+        /**
+         * Creates the sets for a row of the given number of lattice columns,
+         * with every column in its own set.
+         *
+         * @param columns the number of lattice columns
+         */
+        RowSets(int columns) {
+            parent = new int[columns];
+            roots = new int[columns];
+            representative = new int[columns];
+            memberCount = new int[columns];
+            chosen = new int[columns];
+            hasDown = new boolean[columns];
+            down = new boolean[columns];
+            for (int j = 0; j < columns; j++) {
+                parent[j] = j;
+            }
+        }
+
+        /**
+         * Randomly joins adjacent cells of different sets and writes the resulting row.
+         * In the last row every pair of adjacent cells from different sets is joined.
+         *
+         * @param random the source of randomness
+         * @param lastRow whether this is the last row of the maze
+         * @param row the buffer to write the row into
+         */
+        void mergeRandomly(RandomGenerator random, boolean lastRow, Cell[] row) {
+            Arrays.fill(row, Cell.WALL);
+            row[1] = Cell.ROAD;
+            for (int j = 0; j + 1 < parent.length; j++) {
+                int y = j * STEP_SIZE + 1;
+                row[y + STEP_SIZE] = Cell.ROAD;
+
+                int left = find(j);
+                int right = find(j + 1);
+                if (left != right && (lastRow || random.nextBoolean())) {
+                    parent[right] = left;
+                    row[y + 1] = Cell.ROAD;
+                }
+            }
+        }
+
+        /**
+         * Randomly opens passages down into the next row, making sure every set gets at
+         * least one, writes the connecting row and rebuilds the sets for the next row.
+         *
+         * @param random the source of randomness
+         * @param row the buffer to write the connecting row into
+         */
+        void carryDownRandomly(RandomGenerator random, Cell[] row) {
+            int columns = parent.length;
+            Arrays.fill(memberCount, 0);
+            Arrays.fill(hasDown, false);
+
+            for (int j = 0; j < columns; j++) {
+                int root = find(j);
+                roots[j] = root;
+                memberCount[root]++;
+                // Reservoir-sample one member per set as a fallback downward passage
+                if (random.nextInt(memberCount[root]) == 0) {
+                    chosen[root] = j;
+                }
+                down[j] = random.nextBoolean();
+                hasDown[root] |= down[j];
+            }
+
+            Arrays.fill(row, Cell.WALL);
+            Arrays.fill(representative, -1);
+            for (int j = 0; j < columns; j++) {
+                int root = roots[j];
+                if (!hasDown[root] && chosen[root] == j) {
+                    down[j] = true;
+                }
+                if (down[j]) {
+                    row[j * STEP_SIZE + 1] = Cell.ROAD;
+                    if (representative[root] < 0) {
+                        representative[root] = j;
+                    }
+                    parent[j] = representative[root];
+                } else {
+                    parent[j] = j;
+                }
+            }
+        }
+
+        private int find(int column) {
+            int root = column;
+            while (parent[root] != root) {
+                root = parent[root];
+            }
+            int current = column;
+            while (parent[current] != root) {
+                int next = parent[current];
+                parent[current] = root;
+                current = next;
+            }
+            return root;
+        }
+    }
+}
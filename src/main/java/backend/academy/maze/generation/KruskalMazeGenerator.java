@@ -1,10 +1,14 @@
 package backend.academy.maze.generation;
 
+import backend.academy.maze.generation.stream.CarveListener;
+import backend.academy.maze.generation.utils.CarveUtils;
 import backend.academy.maze.model.Cell;
 import backend.academy.maze.model.Maze;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * The KruskalMazeGenerator class implements the {@link MazeGenerator} interface
@@ -15,18 +19,33 @@ import java.util.List;
  */
 public class KruskalMazeGenerator implements MazeGenerator {
     private static final int STEP_SIZE = 2;
-    private Cell[][] cellTypes;
 
     /**
      * Generates a maze of the specified width and height using Kruskal's algorithm.
      *
      * @param width the width of the maze
      * @param height the height of the maze
+     * @param random the source of randomness
      * @return a Maze object representing the generated maze
      */
     @Override
-    public Maze generate(int width, int height) {
-        this.cellTypes = new Cell[width][height];
+    public Maze generate(int width, int height, RandomGenerator random) {
+        return generate(width, height, random, null);
+    }
+
+    /**
+     * Generates a maze of the specified width and height using Kruskal's algorithm, reporting every
+     * carved cell to the listener as soon as it is carved.
+     *
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param random the source of randomness
+     * @param listener the listener of cell changes, or {@code null}
+     * @return a Maze object representing the generated maze
+     */
+    @Override
+    public Maze generate(int width, int height, RandomGenerator random, CarveListener listener) {
+        Cell[][] cellTypes = new Cell[width][height];
 
         // Fill the maze grid with walls
         for (int x = 0; x < width; x++) {
@@ -53,7 +72,7 @@ public class KruskalMazeGenerator implements MazeGenerator {
         }
 
         // Randomize edge order
-        Collections.shuffle(edges);
+        Collections.shuffle(edges, Random.from(random));
 
         // Generate the maze using Kruskal's algorithm
         for (Edge edge : edges) {
@@ -62,7 +81,7 @@ public class KruskalMazeGenerator implements MazeGenerator {
 
             if (uf.find(id1) != uf.find(id2)) {
                 uf.union(id1, id2);
-                connect(edge.x1, edge.y1, edge.x2, edge.y2);
+                connect(cellTypes, edge.x1, edge.y1, edge.x2, edge.y2, listener);
             }
         }
 
@@ -72,19 +91,21 @@ public class KruskalMazeGenerator implements MazeGenerator {
     /**
      * Connects two cells in the maze by clearing a path between them.
      *
+     * @param cellTypes the maze grid
      * @param x1 the x-coordinate of the first cell
      * @param y1 the y-coordinate of the first cell
      * @param x2 the x-coordinate of the second cell
      * @param y2 the y-coordinate of the second cell
+     * @param listener the listener of cell changes, or {@code null}
      */
-    private void connect(int x1, int y1, int x2, int y2) {
+    private void connect(Cell[][] cellTypes, int x1, int y1, int x2, int y2, CarveListener listener) {
         // Prevent overflow when calculating the midpoint
         int mx = x1 / 2 + x2 / 2 + (x1 % 2 + x2 % 2) / 2;
         int my = y1 / 2 + y2 / 2 + (y1 % 2 + y2 % 2) / 2;
 
-        cellTypes[x1][y1] = Cell.ROAD;
-        cellTypes[mx][my] = Cell.ROAD;
-        cellTypes[x2][y2] = Cell.ROAD;
+        CarveUtils.carve(cellTypes, x1, y1, listener);
+        CarveUtils.carve(cellTypes, mx, my, listener);
+        CarveUtils.carve(cellTypes, x2, y2, listener);
     }
 
     /**
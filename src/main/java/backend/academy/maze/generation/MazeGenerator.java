@@ -1,10 +1,17 @@
 package backend.academy.maze.generation;
 
+import backend.academy.maze.generation.stream.CarveListener;
+import backend.academy.maze.model.Cell;
 import backend.academy.maze.model.Maze;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * The MazeGenerator interface defines a contract for maze generation algorithms.
  * Implementing classes are responsible for generating mazes with specified dimensions.
+ *
+ * <p>Implementations keep no per-call state in fields, so a single instance may be used
+ * from several threads at once.</p>
  */
 public interface MazeGenerator {
 
@@ -15,5 +22,45 @@ public interface MazeGenerator {
      * @param height the height of the maze
      * @return a Maze object representing the generated maze
      */
-    Maze generate(int width, int height);
+    default Maze generate(int width, int height) {
+        return generate(width, height, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Generates a maze with the specified width and height drawing all randomness from the
+     * given generator, so a seeded generator produces the same maze every time.
+     *
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param random the source of randomness
+     * @return a Maze object representing the generated maze
+     */
+    Maze generate(int width, int height, RandomGenerator random);
+
+    /**
+     * Generates a maze and reports every cell change to the listener. Generators that can report
+     * changes as they make them override this method and skip the reporting when the listener is
+     * {@code null}; the default implementation generates the maze first and then reports its open
+     * cells in memory order.
+     *
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param random the source of randomness
+     * @param listener the listener of cell changes, or {@code null}
+     * @return a Maze object representing the generated maze
+     */
+    default Maze generate(int width, int height, RandomGenerator random, CarveListener listener) {
+        Maze maze = generate(width, height, random);
+        if (listener != null) {
+            Cell[][] cellTypes = maze.maze();
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    if (cellTypes[x][y] != Cell.WALL) {
+                        listener.onCarve(x * height + y, cellTypes[x][y]);
+                    }
+                }
+            }
+        }
+        return maze;
+    }
 }
@@ -1,23 +1,39 @@
 package backend.academy.maze.generation;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 /**
  * The MazeGeneratorType enum represents different types of maze generation algorithms.
- * Each enum constant is associated with a description and a corresponding generator.
+ * Each enum constant is associated with a description and a corresponding generator, which
+ * records every maze it builds as a {@link backend.academy.maze.jfr.GenerateEvent}.
  *
  * @see PrimMazeGenerator
  * @see KruskalMazeGenerator
  * @see RecursiveBacktrackerMazeGenerator
+ * @see EllerMazeGenerator
+ * @see WilsonMazeGenerator
+ * @see TiledMazeGenerator
+ * @see BraidedMazeGenerator
  */
 @Getter
-@AllArgsConstructor
 public enum MazeGeneratorType {
     PRIM("Prim's Algorithm", new PrimMazeGenerator()),
     KRUSKAL("Kruskal's Algorithm", new KruskalMazeGenerator()),
-    RECURSIVE_BACKTRACKER("Recursive Backtracking", new RecursiveBacktrackerMazeGenerator());
+    RECURSIVE_BACKTRACKER("Recursive Backtracking", new RecursiveBacktrackerMazeGenerator()),
+    ELLER("Eller's Algorithm", new EllerMazeGenerator()),
+    WILSON("Wilson's Algorithm (uniform)", new WilsonMazeGenerator()),
+    ALDOUS_BRODER_WILSON("Aldous-Broder + Wilson's Algorithm (uniform)",
+        new WilsonMazeGenerator(WilsonMazeGenerator.DEFAULT_ALDOUS_BRODER_FRACTION)),
+    TILED_BACKTRACKER("Tile-parallel Recursive Backtracking",
+        new TiledMazeGenerator(new RecursiveBacktrackerMazeGenerator())),
+    BRAIDED("Braided Recursive Backtracking (half of the dead ends removed)",
+        new BraidedMazeGenerator(new RecursiveBacktrackerMazeGenerator(), BraidedMazeGenerator.DEFAULT_BRAID_RATE));
 
     private final String description; // Description of the generation algorithm
     private final MazeGenerator generator; // The maze generator implementation
+
+    MazeGeneratorType(String description, MazeGenerator generator) {
+        this.description = description;
+        this.generator = new RecordedMazeGenerator(name(), generator);
+    }
 }
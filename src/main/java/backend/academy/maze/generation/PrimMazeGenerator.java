@@ -1,12 +1,14 @@
 package backend.academy.maze.generation;
 
+import backend.academy.maze.generation.stream.CarveListener;
+import backend.academy.maze.generation.utils.CarveUtils;
 import backend.academy.maze.model.Cell;
 import backend.academy.maze.model.Maze;
-import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.random.RandomGenerator;
 
 /**
  * The PrimMazeGenerator class implements the {@link MazeGenerator} interface
@@ -16,23 +18,34 @@ import java.util.Set;
  * @see MazeGenerator
  */
 public class PrimMazeGenerator implements MazeGenerator {
-    private int width;
-    private int height;
-    private Cell[][] cellTypes;
-    private final SecureRandom random = new SecureRandom(); // SecureRandom for better randomness
+    private static final int STEP_SIZE = 2;
 
     /**
      * Generates a maze of the specified width and height using Prim's algorithm.
      *
      * @param width the width of the maze
      * @param height the height of the maze
+     * @param random the source of randomness
      * @return a Maze object representing the generated maze
      */
     @Override
-    public Maze generate(int width, int height) {
-        this.width = width;
-        this.height = height;
-        this.cellTypes = new Cell[width][height];
+    public Maze generate(int width, int height, RandomGenerator random) {
+        return generate(width, height, random, null);
+    }
+
+    /**
+     * Generates a maze of the specified width and height using Prim's algorithm, reporting every
+     * carved cell to the listener as soon as it is carved.
+     *
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param random the source of randomness
+     * @param listener the listener of cell changes, or {@code null}
+     * @return a Maze object representing the generated maze
+     */
+    @Override
+    public Maze generate(int width, int height, RandomGenerator random, CarveListener listener) {
+        Cell[][] cellTypes = new Cell[width][height];
 
         // Fill the maze with walls
         for (int x = 0; x < width; x++) {
@@ -43,27 +56,27 @@ public class PrimMazeGenerator implements MazeGenerator {
 
         Set<Position> frontier = new HashSet<>(); // Set of frontier cells
 
-        // Select a random starting cell
-        int startX = random.nextInt(width);
-        int startY = random.nextInt(height);
-        cellTypes[startX][startY] = Cell.ROAD;
+        // Select a random starting cell on the odd lattice, so the border stays walled
+        int startX = random.nextInt(width / STEP_SIZE) * STEP_SIZE + 1;
+        int startY = random.nextInt(height / STEP_SIZE) * STEP_SIZE + 1;
+        CarveUtils.carve(cellTypes, startX, startY, listener);
 
         // Add frontier cells around the starting cell
-        frontier.addAll(getFrontier(startX, startY));
+        frontier.addAll(getFrontier(cellTypes, startX, startY));
 
         // Generate the maze
         while (!frontier.isEmpty()) {
-            Position cell = getRandomCell(frontier);
+            Position cell = getRandomCell(frontier, random);
             frontier.remove(cell);
             int cx = cell.x;
             int cy = cell.y;
 
-            Set<Position> neighbors = getNeighbors(cx, cy);
+            Set<Position> neighbors = getNeighbors(cellTypes, cx, cy);
             if (!neighbors.isEmpty()) {
-                Position neighbor = getRandomCell(neighbors);
-                connect(cx, cy, neighbor.x, neighbor.y);
+                Position neighbor = getRandomCell(neighbors, random);
+                connect(cellTypes, cx, cy, neighbor.x, neighbor.y, listener);
             }
-            frontier.addAll(getFrontier(cx, cy));
+            frontier.addAll(getFrontier(cellTypes, cx, cy));
         }
 
         return new Maze(cellTypes, width, height);
@@ -72,11 +85,14 @@ public class PrimMazeGenerator implements MazeGenerator {
     /**
      * Retrieves the frontier cells around a given cell.
      *
+     * @param cellTypes the maze grid
      * @param x the x-coordinate of the cell
      * @param y the y-coordinate of the cell
      * @return a set of frontier positions
      */
-    private Set<Position> getFrontier(int x, int y) {
+    private Set<Position> getFrontier(Cell[][] cellTypes, int x, int y) {
+        int width = cellTypes.length;
+        int height = cellTypes[0].length;
         Set<Position> f = new HashSet<>();
         if (x > 1 && cellTypes[x - 2][y] == Cell.WALL) {
             f.add(new Position(x - 2, y));
@@ -96,11 +112,14 @@ public class PrimMazeGenerator implements MazeGenerator {
     /**
      * Retrieves the neighboring cells that are already part of the maze.
      *
+     * @param cellTypes the maze grid
      * @param x the x-coordinate of the cell
      * @param y the y-coordinate of the cell
      * @return a set of neighboring positions
      */
-    private Set<Position> getNeighbors(int x, int y) {
+    private Set<Position> getNeighbors(Cell[][] cellTypes, int x, int y) {
+        int width = cellTypes.length;
+        int height = cellTypes[0].length;
         Set<Position> neighbors = new HashSet<>();
         if (x > 1 && cellTypes[x - 2][y] != Cell.WALL) {
             neighbors.add(new Position(x - 2, y));
@@ -120,26 +139,29 @@ public class PrimMazeGenerator implements MazeGenerator {
     /**
      * Connects two cells in the maze by creating a path between them.
      *
+     * @param cellTypes the maze grid
      * @param x1 the x-coordinate of the first cell
      * @param y1 the y-coordinate of the first cell
      * @param x2 the x-coordinate of the second cell
      * @param y2 the y-coordinate of the second cell
+     * @param listener the listener of cell changes, or {@code null}
      */
-    private void connect(int x1, int y1, int x2, int y2) {
+    private void connect(Cell[][] cellTypes, int x1, int y1, int x2, int y2, CarveListener listener) {
         int mx = x1 + (x2 - x1) / 2; // Calculate the midpoint x
         int my = y1 + (y2 - y1) / 2; // Calculate the midpoint y
-        cellTypes[x1][y1] = Cell.ROAD;
-        cellTypes[mx][my] = Cell.ROAD;
-        cellTypes[x2][y2] = Cell.ROAD;
+        CarveUtils.carve(cellTypes, x1, y1, listener);
+        CarveUtils.carve(cellTypes, mx, my, listener);
+        CarveUtils.carve(cellTypes, x2, y2, listener);
     }
 
     /**
      * Selects a random cell from a set of positions.
      *
      * @param cells the set of positions
+     * @param random the source of randomness
      * @return a randomly selected position
      */
-    private Position getRandomCell(Set<Position> cells) {
+    private Position getRandomCell(Set<Position> cells, RandomGenerator random) {
         int index = random.nextInt(cells.size());
         List<Position> cellList = new ArrayList<>(cells); // Convert Set to List for random selection
         return cellList.get(index);
@@ -0,0 +1,39 @@
+package backend.academy.maze.generation;
+
+import backend.academy.maze.generation.stream.CarveListener;
+import backend.academy.maze.jfr.GenerateEvent;
+import backend.academy.maze.model.Maze;
+import java.util.random.RandomGenerator;
+
+/**
+ * Wraps the generator of a {@link MazeGeneratorType} so that every maze it builds is recorded as a
+ * {@link GenerateEvent}. Generators used inside other generators, such as the tile generator of
+ * {@link TiledMazeGenerator}, are not wrapped, so one maze yields one event.
+ */
+final class RecordedMazeGenerator implements MazeGenerator {
+    private final String algorithm;
+    private final MazeGenerator delegate;
+
+    RecordedMazeGenerator(String algorithm, MazeGenerator delegate) {
+        this.algorithm = algorithm;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Maze generate(int width, int height, RandomGenerator random) {
+        GenerateEvent event = new GenerateEvent();
+        event.begin();
+        Maze maze = delegate.generate(width, height, random);
+        event.finish(algorithm, width, height);
+        return maze;
+    }
+
+    @Override
+    public Maze generate(int width, int height, RandomGenerator random, CarveListener listener) {
+        GenerateEvent event = new GenerateEvent();
+        event.begin();
+        Maze maze = delegate.generate(width, height, random, listener);
+        event.finish(algorithm, width, height);
+        return maze;
+    }
+}
@@ -1,80 +1,86 @@
 package backend.academy.maze.generation;
 
+import backend.academy.maze.generation.stream.CarveListener;
+import backend.academy.maze.generation.utils.CarveUtils;
+import backend.academy.maze.generation.utils.IntStack;
 import backend.academy.maze.model.Cell;
 import backend.academy.maze.model.Maze;
-import java.security.SecureRandom;
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Deque;
-import java.util.List;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
 
 /**
  * The RecursiveBacktrackerMazeGenerator class implements the {@link MazeGenerator} interface
  * to generate mazes using the recursive backtracking algorithm. The algorithm creates a maze
  * by selecting random unvisited neighbors and backtracking when no unvisited neighbors are found.
  *
+ * <p>The walk is driven by a primitive {@link IntStack} of packed cell indices
+ * ({@code x * height + y}), and the order in which neighbors are tried is taken from a
+ * precomputed table of all 24 direction permutations using a single random draw per step,
+ * so the main loop does not allocate.</p>
+ *
  * @see MazeGenerator
  */
 public class RecursiveBacktrackerMazeGenerator implements MazeGenerator {
     private static final int STEP_SIZE = 2;
-    private int width;
-    private int height;
-    private Cell[][] cellTypes;
-    private final SecureRandom random = new SecureRandom();
+    private static final int DIRECTIONS = 4;
+    private static final int BITS_PER_DIRECTION = 2;
+    private static final int PERMUTATION_COUNT = 24;
+
+    // Direction offsets: left, right, up, down
+    private static final int[] DX = {-STEP_SIZE, STEP_SIZE, 0, 0};
+    private static final int[] DY = {0, 0, -STEP_SIZE, STEP_SIZE};
+
+    // All orderings of the four directions, four entries per ordering
+    private static final byte[] PERMUTATIONS = buildPermutations();
+
+    /**
+     * Generates a maze of the specified width and height using recursive backtracking.
+     *
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param random the source of randomness
+     * @return a Maze object representing the generated maze
+     */
+    @Override
+    public Maze generate(int width, int height, RandomGenerator random) {
+        return generate(width, height, random, null);
+    }
 
     /**
-     * Generates a maze of the specified width and height using the recursive backtracking algorithm.
+     * Generates a maze of the specified width and height using recursive backtracking, reporting every
+     * carved cell to the listener as soon as it is carved.
      *
      * @param width the width of the maze
      * @param height the height of the maze
+     * @param random the source of randomness
+     * @param listener the listener of cell changes, or {@code null}
      * @return a Maze object representing the generated maze
      */
     @Override
-    public Maze generate(int width, int height) {
-        this.width = width;
-        this.height = height;
-        this.cellTypes = new Cell[width][height];
+    public Maze generate(int width, int height, RandomGenerator random, CarveListener listener) {
+        Cell[][] cellTypes = new Cell[width][height];
 
         // Initialize all cells as walls
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                cellTypes[x][y] = Cell.WALL;
-            }
+        for (Cell[] column : cellTypes) {
+            Arrays.fill(column, Cell.WALL);
         }
 
-        // Stack to store positions, renamed to positionDeque for clarity
-        Deque<int[]> position = new ArrayDeque<>();
+        // Packed cell indices of the current walk; the stack doubles its capacity when needed
+        IntStack stack = new IntStack(width + height);
 
         // Select a random starting point
         int startX = random.nextInt(width / 2) * STEP_SIZE + 1;
         int startY = random.nextInt(height / 2) * STEP_SIZE + 1;
-        position.addFirst(new int[]{startX, startY});
-        cellTypes[startX][startY] = Cell.ROAD;
+        CarveUtils.carve(cellTypes, startX, startY, listener);
+        stack.push(startX * height + startY);
 
         // Maze generation algorithm
-        while (!position.isEmpty()) {
-            int[] current = position.getFirst();
-
-            int xIndex = 0;
-            int yIndex = 1;
-            int x = current[xIndex];
-            int y = current[yIndex];
-
-            // Get a random unvisited neighbor
-            int[] neighbor = getRandomUnvisitedNeighbor(x, y);
-
-            if (neighbor != null) {
-                int nxIndex = 0;
-                int nyIndex = 1;
-                int nx = neighbor[nxIndex];
-                int ny = neighbor[nyIndex];
-
-                // Connect the current cell to the neighbor
-                connect(x, y, nx, ny);
-                position.addFirst(new int[]{nx, ny});
+        while (!stack.isEmpty()) {
+            int next = carveToRandomNeighbor(cellTypes, stack.peek(), random, listener);
+            if (next >= 0) {
+                stack.push(next);
             } else {
-                position.removeFirst();
+                stack.pop();
             }
         }
 
@@ -82,67 +88,60 @@ public class RecursiveBacktrackerMazeGenerator implements MazeGenerator {
     }
 
     /**
-     * Retrieves a random unvisited neighbor of the given cell.
+     * Tries the four directions from the given cell in a random order and carves a passage
+     * to the first unvisited neighbor.
      *
-     * @param x the x-coordinate of the current cell
-     * @param y the y-coordinate of the current cell
-     * @return an array containing the x and y coordinates of the unvisited neighbor,
-     *         or null if no unvisited neighbor is found
+     * @param cellTypes the maze grid
+     * @param current the packed index of the current cell
+     * @param random the source of randomness
+     * @param listener the listener of cell changes, or {@code null}
+     * @return the packed index of the carved neighbor, or {@code -1} if every neighbor is visited
      */
-    private int[] getRandomUnvisitedNeighbor(int x, int y) {
-        // List of directions to explore
-        List<Direction> directions = new ArrayList<>();
-        directions.add(new Direction(-STEP_SIZE, 0));  // Left
-        directions.add(new Direction(STEP_SIZE, 0));   // Right
-        directions.add(new Direction(0, -STEP_SIZE));  // Up
-        directions.add(new Direction(0, STEP_SIZE));   // Down
-
-        // Shuffle directions for randomness
-        Collections.shuffle(directions, random);
-
-        // Check each direction
-        for (Direction dir : directions) {
-            int nx = x + dir.dx;
-            int ny = y + dir.dy;
+    private int carveToRandomNeighbor(
+            Cell[][] cellTypes, int current, RandomGenerator random, CarveListener listener) {
+        int width = cellTypes.length;
+        int height = cellTypes[0].length;
+        int x = current / height;
+        int y = current % height;
+        int base = random.nextInt(PERMUTATION_COUNT) * DIRECTIONS;
+
+        for (int i = 0; i < DIRECTIONS; i++) {
+            int direction = PERMUTATIONS[base + i];
+            int nx = x + DX[direction];
+            int ny = y + DY[direction];
             if (nx > 0 && nx < width && ny > 0 && ny < height && cellTypes[nx][ny] == Cell.WALL) {
-                return new int[]{nx, ny};
+                CarveUtils.carve(cellTypes, x + DX[direction] / 2, y + DY[direction] / 2, listener);
+                CarveUtils.carve(cellTypes, nx, ny, listener);
+                return nx * height + ny;
             }
         }
-        return null;
+        return -1;
     }
 
     /**
-     * Connects two cells by creating a path between them.
+     * Builds the table of all permutations of the four directions by enumerating every
+     * sequence of four 2-bit direction codes and keeping those that use each direction once.
      *
-     * @param x1 the x-coordinate of the first cell
-     * @param y1 the y-coordinate of the first cell
-     * @param x2 the x-coordinate of the second cell
-     * @param y2 the y-coordinate of the second cell
+     * @return the flattened permutation table
      */
-    private void connect(int x1, int y1, int x2, int y2) {
-        int mx = x1 + (x2 - x1) / 2; // Calculate the midpoint x
-        int my = y1 + (y2 - y1) / 2; // Calculate the midpoint y
-        cellTypes[x1][y1] = Cell.ROAD;
-        cellTypes[mx][my] = Cell.ROAD;
-        cellTypes[x2][y2] = Cell.ROAD;
-    }
-
-    /**
-     * The Direction class stores the change in x and y coordinates for a given direction.
-     */
-    private static class Direction {
-        final int dx;
-        final int dy;
-
-        /**
-         * Constructs a Direction object representing a movement in a certain direction.
-         *
-         * @param dx the change in x-coordinate
-         * @param dy the change in y-coordinate
-         */
-        Direction(int dx, int dy) {
-            this.dx = dx;
-            this.dy = dy;
+    private static byte[] buildPermutations() {
+        byte[] table = new byte[PERMUTATION_COUNT * DIRECTIONS];
+        int directionMask = DIRECTIONS - 1;
+        int allDirections = (1 << DIRECTIONS) - 1;
+        int offset = 0;
+
+        for (int code = 0; code < 1 << (BITS_PER_DIRECTION * DIRECTIONS); code++) {
+            int seen = 0;
+            for (int i = 0; i < DIRECTIONS; i++) {
+                seen |= 1 << ((code >> (BITS_PER_DIRECTION * i)) & directionMask);
+            }
+            if (seen != allDirections) {
+                continue;
+            }
+            for (int i = 0; i < DIRECTIONS; i++) {
+                table[offset++] = (byte) ((code >> (BITS_PER_DIRECTION * i)) & directionMask);
+            }
         }
+        return table;
     }
 }
@@ -0,0 +1,205 @@
+package backend.academy.maze.generation;
+
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/**
+ * The TiledMazeGenerator class implements the {@link MazeGenerator} interface by splitting
+ * the grid into square tiles, generating every tile concurrently with another generator,
+ * and stitching the tiles into one perfect maze.
+ *
+ * <p>Tiles are aligned to the odd-coordinate cell lattice and share their border walls with
+ * their neighbors. Each tile gets its own random stream seeded from the caller's generator,
+ * so the result is reproducible regardless of scheduling. The tiles are then joined along a
+ * random spanning tree of the tile grid, opening exactly one passage per tree edge, which
+ * keeps the whole maze connected and free of loops as long as every tile is a perfect maze.</p>
+ *
+ * @see MazeGenerator
+ */
+public class TiledMazeGenerator implements MazeGenerator {
+
+    /**
+     * Default tile side, in lattice cells (a tile spans {@code 2 * side + 1} grid cells).
+     */
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    private static final int STEP_SIZE = 2;
+
+    private final MazeGenerator tileGenerator;
+    private final int tileSize;
+
+    /**
+     * Constructs a tiled generator with the default tile size.
+     *
+     * @param tileGenerator the generator used for each tile
+     */
+    public TiledMazeGenerator(MazeGenerator tileGenerator) {
+        this(tileGenerator, DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Constructs a tiled generator.
+     *
+     * @param tileGenerator the generator used for each tile; must be safe to call from several threads
+     * @param tileSize the tile side in lattice cells
+     * @throws IllegalArgumentException if the tile size is not positive
+     */
+    public TiledMazeGenerator(MazeGenerator tileGenerator, int tileSize) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Invalid tile size: " + tileSize);
+        }
+        this.tileGenerator = tileGenerator;
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Generates a maze of the specified width and height by generating the tiles in parallel
+     * and stitching them together.
+     *
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param random the source of randomness
+     * @return a Maze object representing the generated maze
+     */
+    @Override
+    public Maze generate(int width, int height, RandomGenerator random) {
+        Cell[][] cellTypes = new Cell[width][height];
+        for (Cell[] column : cellTypes) {
+            Arrays.fill(column, Cell.WALL);
+        }
+
+        int latticeWidth = width / STEP_SIZE;
+        int latticeHeight = height / STEP_SIZE;
+        if (latticeWidth == 0 || latticeHeight == 0) {
+            return new Maze(cellTypes, width, height);
+        }
+
+        int tilesX = (latticeWidth + tileSize - 1) / tileSize;
+        int tilesY = (latticeHeight + tileSize - 1) / tileSize;
+
+        // Draw the per-tile seeds up front so the result does not depend on thread scheduling
+        long[] seeds = new long[tilesX * tilesY];
+        for (int t = 0; t < seeds.length; t++) {
+            seeds[t] = random.nextLong();
+        }
+
+        IntStream.range(0, seeds.length).parallel().forEach(t -> {
+            int tileX = t / tilesY;
+            int tileY = t % tilesY;
+            int cellsX = Math.min(tileSize, latticeWidth - tileX * tileSize);
+            int cellsY = Math.min(tileSize, latticeHeight - tileY * tileSize);
+            Maze tile = tileGenerator.generate(
+                cellsX * STEP_SIZE + 1, cellsY * STEP_SIZE + 1, new SplittableRandom(seeds[t]));
+            copyInterior(tile.maze(), cellTypes, tileX * tileSize * STEP_SIZE, tileY * tileSize * STEP_SIZE);
+        });
+
+        stitch(cellTypes, tilesX, tilesY, latticeWidth, latticeHeight, random);
+
+        return new Maze(cellTypes, width, height);
+    }
+
+    /**
+     * Copies everything inside the border walls of a tile into the maze grid.
+     *
+     * @param tile the generated tile
+     * @param cellTypes the maze grid
+     * @param offsetX the x-coordinate of the tile's top border in the maze
+     * @param offsetY the y-coordinate of the tile's left border in the maze
+     */
+    private void copyInterior(Cell[][] tile, Cell[][] cellTypes, int offsetX, int offsetY) {
+        int interiorHeight = tile[0].length - STEP_SIZE;
+        for (int x = 1; x < tile.length - 1; x++) {
+            System.arraycopy(tile[x], 1, cellTypes[offsetX + x], offsetY + 1, interiorHeight);
+        }
+    }
+
+    /**
+     * Joins the tiles along a random spanning tree of the tile grid. Tile edges are visited in
+     * random order and an edge is kept when it connects two different components, as in Kruskal's
+     * algorithm; for every kept edge a single passage is opened at a random cell of the seam.
+     *
+     * @param cellTypes the maze grid
+     * @param tilesX the number of tiles along x
+     * @param tilesY the number of tiles along y
+     * @param latticeWidth the number of lattice cells along x
+     * @param latticeHeight the number of lattice cells along y
+     * @param random the source of randomness
+     */
+    private void stitch(
+            Cell[][] cellTypes, int tilesX, int tilesY, int latticeWidth, int latticeHeight, RandomGenerator random) {
+        int tiles = tilesX * tilesY;
+        // Edge e connects tile e / 2 with its neighbor along x (even e) or along y (odd e)
+        int[] edges = new int[tiles * 2];
+        int edgeCount = 0;
+        for (int t = 0; t < tiles; t++) {
+            if (t / tilesY + 1 < tilesX) {
+                edges[edgeCount++] = t * 2;
+            }
+            if (t % tilesY + 1 < tilesY) {
+                edges[edgeCount++] = t * 2 + 1;
+            }
+        }
+
+        int[] parent = new int[tiles];
+        for (int t = 0; t < tiles; t++) {
+            parent[t] = t;
+        }
+
+        for (int i = edgeCount - 1; i >= 0; i--) {
+            int pick = random.nextInt(i + 1);
+            int edge = edges[pick];
+            edges[pick] = edges[i];
+
+            int tile = edge / 2;
+            boolean alongX = edge % 2 == 0;
+            int neighbor = alongX ? tile + tilesY : tile + 1;
+            int rootA = find(parent, tile);
+            int rootB = find(parent, neighbor);
+            if (rootA == rootB) {
+                continue;
+            }
+            parent[rootA] = rootB;
+
+            int tileX = tile / tilesY;
+            int tileY = tile % tilesY;
+            if (alongX) {
+                int seamX = (tileX + 1) * tileSize * STEP_SIZE;
+                int cells = Math.min(tileSize, latticeHeight - tileY * tileSize);
+                int y = (tileY * tileSize + random.nextInt(cells)) * STEP_SIZE + 1;
+                open(cellTypes, seamX - 1, y, seamX + 1, y);
+            } else {
+                int seamY = (tileY + 1) * tileSize * STEP_SIZE;
+                int cells = Math.min(tileSize, latticeWidth - tileX * tileSize);
+                int x = (tileX * tileSize + random.nextInt(cells)) * STEP_SIZE + 1;
+                open(cellTypes, x, seamY - 1, x, seamY + 1);
+            }
+        }
+    }
+
+    /**
+     * Opens two lattice cells on both sides of a seam and the wall between them.
+     */
+    private void open(Cell[][] cellTypes, int x1, int y1, int x2, int y2) {
+        cellTypes[x1][y1] = Cell.ROAD;
+        cellTypes[(x1 + x2) / 2][(y1 + y2) / 2] = Cell.ROAD;
+        cellTypes[x2][y2] = Cell.ROAD;
+    }
+
+    private int find(int[] parent, int element) {
+        int root = element;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        int current = element;
+        while (parent[current] != root) {
+            int next = parent[current];
+            parent[current] = root;
+            current = next;
+        }
+        return root;
+    }
+}
@@ -0,0 +1,231 @@
+package backend.academy.maze.generation;
+
+import backend.academy.maze.generation.stream.CarveListener;
+import backend.academy.maze.generation.utils.CarveUtils;
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * The WilsonMazeGenerator class implements the {@link MazeGenerator} interface
+ * to generate mazes using Wilson's algorithm (loop-erased random walks). Unlike Prim's,
+ * Kruskal's or the recursive backtracker, the result is a uniform spanning tree: every
+ * perfect maze of the given size is equally likely, so the mazes carry no structural bias.
+ *
+ * <p>Optionally the first part of the tree is grown with the Aldous-Broder random walk, which
+ * is also uniform and covers an empty grid quickly, while Wilson's walks are slow until the tree
+ * is large enough to be hit often. The walk state is kept in a visited array and a next-direction
+ * array over the cell lattice, so no objects are allocated per step.</p>
+ *
+ * @see MazeGenerator
+ */
+public class WilsonMazeGenerator implements MazeGenerator {
+
+    /**
+     * Fraction of cells added by Aldous-Broder before switching to Wilson's algorithm in the hybrid mode.
+     */
+    public static final double DEFAULT_ALDOUS_BRODER_FRACTION = 1.0 / 3;
+
+    private static final int STEP_SIZE = 2;
+    private static final int DIRECTIONS = 4;
+
+    // Lattice offsets: left, right, up, down
+    private static final int[] DI = {-1, 1, 0, 0};
+    private static final int[] DJ = {0, 0, -1, 1};
+
+    private final double aldousBroderFraction;
+
+    /**
+     * Constructs a generator that uses Wilson's algorithm for the whole maze.
+     */
+    public WilsonMazeGenerator() {
+        this(0);
+    }
+
+    /**
+     * Constructs a hybrid generator that adds the given fraction of cells with Aldous-Broder
+     * random walk and the rest with Wilson's algorithm.
+     *
+     * @param aldousBroderFraction the fraction of cells to add with Aldous-Broder, in {@code [0, 1]}
+     * @throws IllegalArgumentException if the fraction is out of range
+     */
+    public WilsonMazeGenerator(double aldousBroderFraction) {
+        if (aldousBroderFraction < 0 || aldousBroderFraction > 1) {
+            throw new IllegalArgumentException("Invalid Aldous-Broder fraction: " + aldousBroderFraction);
+        }
+        this.aldousBroderFraction = aldousBroderFraction;
+    }
+
+    /**
+     * Generates a maze of the specified width and height drawing all randomness from the given generator.
+     *
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param random the source of randomness
+     * @return a Maze object representing the generated maze
+     */
+    @Override
+    public Maze generate(int width, int height, RandomGenerator random) {
+        return generate(width, height, random, null);
+    }
+
+    /**
+     * Generates a maze of the specified width and height, reporting every carved cell to the
+     * listener as soon as it is carved.
+     *
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param random the source of randomness
+     * @param listener the listener of cell changes, or {@code null}
+     * @return a Maze object representing the generated maze
+     */
+    @Override
+    public Maze generate(int width, int height, RandomGenerator random, CarveListener listener) {
+        Cell[][] cellTypes = new Cell[width][height];
+        for (Cell[] column : cellTypes) {
+            Arrays.fill(column, Cell.WALL);
+        }
+
+        Lattice lattice = new Lattice(cellTypes, listener);
+        if (lattice.size() > 0) {
+            int root = random.nextInt(lattice.size());
+            lattice.add(root);
+            int added = 1 + lattice.aldousBroder(root, (int) (aldousBroderFraction * lattice.size()) - 1, random);
+            if (added < lattice.size()) {
+                lattice.wilson(random);
+            }
+        }
+
+        return new Maze(cellTypes, width, height);
+    }
+
+    /**
+     * The odd-coordinate cell lattice of the maze: lattice cell {@code (i, j)} is maze cell
+     * {@code (2i + 1, 2j + 1)} and is addressed by the packed index {@code i * rows + j}.
+     */
+    private static final class Lattice {
+        private final Cell[][] cellTypes;
+        private final CarveListener listener;
+        private final int columns;
+        private final int rows;
+        private final boolean[] inTree;
+        private final byte[] nextDirection;
+
+        /**
+         * Creates the lattice over the given all-wall grid.
+         *
+         * @param cellTypes the maze grid to carve into
+         * @param listener the listener of cell changes, or {@code null}
+         */
+        Lattice(Cell[][] cellTypes, CarveListener listener) {
+            this.cellTypes = cellTypes;
+            this.listener = listener;
+            this.columns = cellTypes.length / STEP_SIZE;
+            this.rows = columns == 0 ? 0 : cellTypes[0].length / STEP_SIZE;
+            this.inTree = new boolean[columns * rows];
+            this.nextDirection = new byte[columns * rows];
+        }
+
+        int size() {
+            return inTree.length;
+        }
+
+        /**
+         * Adds a single cell to the tree without connecting it to anything.
+         *
+         * @param cell the packed lattice index
+         */
+        void add(int cell) {
+            inTree[cell] = true;
+            CarveUtils.carve(cellTypes, cell / rows * STEP_SIZE + 1, cell % rows * STEP_SIZE + 1, listener);
+        }
+
+        /**
+         * Performs the Aldous-Broder random walk from the given tree cell, carving a passage
+         * every time the walk enters a cell for the first time.
+         *
+         * @param start the packed index of a cell already in the tree
+         * @param limit the number of cells to add before stopping
+         * @param random the source of randomness
+         * @return the number of cells added
+         */
+        int aldousBroder(int start, int limit, RandomGenerator random) {
+            int added = 0;
+            int current = start;
+            while (added < limit) {
+                int next = step(current, randomDirection(current, random));
+                if (!inTree[next]) {
+                    carve(current, next);
+                    inTree[next] = true;
+                    added++;
+                }
+                current = next;
+            }
+            return added;
+        }
+
+        /**
+         * Adds every remaining cell with a loop-erased random walk. The walk records the last
+         * direction taken out of each cell, which erases loops implicitly; once the walk hits
+         * the tree it is retraced from its start and carved.
+         *
+         * @param random the source of randomness
+         */
+        void wilson(RandomGenerator random) {
+            for (int start = 0; start < inTree.length; start++) {
+                if (inTree[start]) {
+                    continue;
+                }
+
+                int current = start;
+                while (!inTree[current]) {
+                    int direction = randomDirection(current, random);
+                    nextDirection[current] = (byte) direction;
+                    current = step(current, direction);
+                }
+
+                current = start;
+                while (!inTree[current]) {
+                    int next = step(current, nextDirection[current]);
+                    inTree[current] = true;
+                    carve(current, next);
+                    current = next;
+                }
+            }
+        }
+
+        /**
+         * Draws a direction that stays inside the lattice, rejecting directions across the border.
+         */
+        private int randomDirection(int cell, RandomGenerator random) {
+            int i = cell / rows;
+            int j = cell % rows;
+            while (true) {
+                int direction = random.nextInt(DIRECTIONS);
+                int ni = i + DI[direction];
+                int nj = j + DJ[direction];
+                if (ni >= 0 && ni < columns && nj >= 0 && nj < rows) {
+                    return direction;
+                }
+            }
+        }
+
+        private int step(int cell, int direction) {
+            return cell + DI[direction] * rows + DJ[direction];
+        }
+
+        /**
+         * Opens both lattice cells and the wall between them.
+         */
+        private void carve(int from, int to) {
+            int x1 = from / rows * STEP_SIZE + 1;
+            int y1 = from % rows * STEP_SIZE + 1;
+            int x2 = to / rows * STEP_SIZE + 1;
+            int y2 = to % rows * STEP_SIZE + 1;
+            CarveUtils.carve(cellTypes, x1, y1, listener);
+            CarveUtils.carve(cellTypes, (x1 + x2) / 2, (y1 + y2) / 2, listener);
+            CarveUtils.carve(cellTypes, x2, y2, listener);
+        }
+    }
+}
@@ -19,11 +19,22 @@ public class MazeGeneratorFactory {
      * @throws IllegalArgumentException if the choice is invalid
      */
     public static MazeGenerator getGenerator(int choice) {
+        return getGeneratorType(choice).generator();
+    }
+
+    /**
+     * Returns the {@link MazeGeneratorType} based on the user's selection.
+     *
+     * @param choice the user's choice of maze generation algorithm
+     * @return the selected {@link MazeGeneratorType}
+     * @throws IllegalArgumentException if the choice is invalid
+     */
+    public static MazeGeneratorType getGeneratorType(int choice) {
         MazeGeneratorType[] types = MazeGeneratorType.values();
         if (choice < 1 || choice > types.length) {
             throw new IllegalArgumentException("Invalid generator selection: " + choice);
         }
-        return types[choice - 1].generator();
+        return types[choice - 1];
     }
 
     /**
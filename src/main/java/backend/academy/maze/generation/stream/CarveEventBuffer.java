@@ -0,0 +1,94 @@
+package backend.academy.maze.generation.stream;
+
+import backend.academy.maze.model.Cell;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded single-producer, single-consumer ring buffer of carve events. The generating thread
+ * writes events through {@link #onCarve}, and one consumer thread takes them with {@link #drain}.
+ *
+ * <p>Each event is packed into one {@code long} (the cell index in the high half, the cell type
+ * ordinal in the low half), so the buffer allocates nothing after construction. When the buffer is
+ * full the producer spins until the consumer makes room, which paces generation to the consumer.</p>
+ */
+public final class CarveEventBuffer implements CarveListener {
+    private static final Cell[] CELLS = Cell.values();
+    private static final int INDEX_SHIFT = 32;
+    private static final long ORDINAL_MASK = 0xFFFF_FFFFL;
+
+    private final long[] events;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // Next event to read, written by the consumer
+    private final AtomicLong tail = new AtomicLong(); // Next slot to write, written by the producer
+
+    /**
+     * Creates a buffer.
+     *
+     * @param capacity the number of events the buffer holds, rounded up to a power of two
+     * @throws IllegalArgumentException if the capacity is not positive or too large
+     */
+    public CarveEventBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << (Integer.SIZE - 2)) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.events = new long[Math.max(1, size)];
+        this.mask = events.length - 1;
+    }
+
+    /**
+     * Adds an event if there is room.
+     *
+     * @param index the packed index of the cell
+     * @param cell the new type of the cell
+     * @return {@code true} if the event was added, {@code false} if the buffer is full
+     */
+    public boolean offer(int index, Cell cell) {
+        long position = tail.get();
+        if (position - head.get() == events.length) {
+            return false;
+        }
+        events[(int) position & mask] = (long) index << INDEX_SHIFT | cell.ordinal();
+        tail.lazySet(position + 1);
+        return true;
+    }
+
+    /**
+     * Adds an event, waiting for room if the buffer is full.
+     *
+     * @param index the packed index of the cell
+     * @param cell the new type of the cell
+     */
+    @Override
+    public void onCarve(int index, Cell cell) {
+        while (!offer(index, cell)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Passes the buffered events to the target in order and removes them from the buffer.
+     *
+     * @param target the listener that receives the events
+     * @return the number of events passed
+     */
+    public int drain(CarveListener target) {
+        long position = head.get();
+        long end = tail.get();
+        for (long p = position; p < end; p++) {
+            long event = events[(int) p & mask];
+            target.onCarve((int) (event >>> INDEX_SHIFT), CELLS[(int) (event & ORDINAL_MASK)]);
+        }
+        head.lazySet(end);
+        return (int) (end - position);
+    }
+
+    /**
+     * Returns the number of buffered events.
+     *
+     * @return the number of events waiting to be drained
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+}
@@ -0,0 +1,24 @@
+package backend.academy.maze.generation.stream;
+
+import backend.academy.maze.model.Cell;
+
+/**
+ * The CarveListener interface receives the changes a generator makes to the grid, one cell at
+ * a time and in the order they are made. Applying the events to an all-wall grid of the same
+ * size reproduces the generated maze, so a viewer can animate generation without copying the grid.
+ *
+ * <p>Cells are identified by the packed index {@code x * height + y}. Listeners are called on the
+ * generating thread and should return quickly; {@link CarveEventBuffer} hands the events over to
+ * another thread.</p>
+ */
+@FunctionalInterface
+public interface CarveListener {
+
+    /**
+     * Called after a cell of the grid has been changed.
+     *
+     * @param index the packed index of the cell
+     * @param cell the new type of the cell
+     */
+    void onCarve(int index, Cell cell);
+}
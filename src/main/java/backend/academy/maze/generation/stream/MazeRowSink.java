@@ -0,0 +1,23 @@
+package backend.academy.maze.generation.stream;
+
+import backend.academy.maze.model.Cell;
+
+/**
+ * The MazeRowSink interface receives a maze one row at a time from a streaming generator.
+ * A row is the column array {@code maze[x]} of a {@link backend.academy.maze.model.Maze},
+ * so row {@code x} holds {@code height} cells and rows arrive in increasing {@code x} order.
+ *
+ * <p>The row array is a buffer owned by the generator and is overwritten after the call returns.
+ * Sinks that need to keep a row must copy it.</p>
+ */
+@FunctionalInterface
+public interface MazeRowSink {
+
+    /**
+     * Accepts the next row of the maze.
+     *
+     * @param x the index of the row
+     * @param row the cells of the row; only valid for the duration of the call
+     */
+    void acceptRow(int x, Cell[] row);
+}
@@ -0,0 +1,51 @@
+package backend.academy.maze.generation.stream;
+
+import backend.academy.maze.model.Cell;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * A {@link MazeRowSink} that writes each row as a line of cell symbols to a {@link Writer}.
+ * The symbols of a row are collected in a reusable character buffer, so writing does not
+ * allocate per row. The writer is neither buffered nor closed by this class.
+ */
+public class WriterRowSink implements MazeRowSink {
+    private static final char NEW_LINE = '\n';
+
+    private final Writer writer;
+    private char[] buffer = new char[0];
+
+    /**
+     * Constructs a sink writing to the given writer.
+     *
+     * @param writer the destination of the rows
+     */
+    public WriterRowSink(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Writes the symbols of the row followed by a line break.
+     *
+     * @param x the index of the row
+     * @param row the cells of the row
+     * @throws UncheckedIOException if the underlying writer fails
+     */
+    @Override
+    public void acceptRow(int x, Cell[] row) {
+        if (buffer.length < row.length + 1) {
+            buffer = new char[row.length + 1];
+        }
+        for (int y = 0; y < row.length; y++) {
+            buffer[y] = row[y].symbol();
+        }
+        buffer[row.length] = NEW_LINE;
+
+        try {
+            writer.write(buffer, 0, row.length + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write maze row " + x, e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package backend.academy.maze.generation.utils;
+
+import backend.academy.maze.generation.stream.CarveListener;
+import backend.academy.maze.model.Cell;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility class with the grid update shared by the generators that report their carving
+ * to a {@link CarveListener}.
+ */
+@UtilityClass
+public class CarveUtils {
+
+    /**
+     * Turns a wall into road and reports the change to the listener, if there is one.
+     * Cells that are already open are left alone and not reported.
+     *
+     * @param cellTypes the maze grid
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @param listener the listener of cell changes, or {@code null}
+     */
+    public static void carve(Cell[][] cellTypes, int x, int y, CarveListener listener) {
+        if (cellTypes[x][y] == Cell.WALL) {
+            cellTypes[x][y] = Cell.ROAD;
+            if (listener != null) {
+                listener.onCarve(x * cellTypes[x].length + y, Cell.ROAD);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package backend.academy.maze.generation.utils;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A growable LIFO stack of primitive {@code int} values.
+ * Used by the generators to keep packed cell indices without boxing
+ * or allocating an object per push.
+ */
+public final class IntStack {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final String EMPTY_STACK = "Stack is empty";
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * Creates an empty stack with a default initial capacity.
+     */
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty stack with the given initial capacity.
+     *
+     * @param initialCapacity the number of values the stack can hold before growing
+     */
+    public IntStack(int initialCapacity) {
+        this.elements = new int[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Pushes a value onto the top of the stack, doubling the backing array when it is full.
+     *
+     * @param value the value to push
+     */
+    public void push(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length * 2);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Returns the value on the top of the stack without removing it.
+     *
+     * @return the top value
+     * @throws NoSuchElementException if the stack is empty
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException(EMPTY_STACK);
+        }
+        return elements[size - 1];
+    }
+
+    /**
+     * Removes and returns the value on the top of the stack.
+     *
+     * @return the removed value
+     * @throws NoSuchElementException if the stack is empty
+     */
+    public int pop() {
+        if (size == 0) {
+            throw new NoSuchElementException(EMPTY_STACK);
+        }
+        return elements[--size];
+    }
+
+    /**
+     * Checks whether the stack holds no values.
+     *
+     * @return {@code true} if the stack is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values on the stack.
+     *
+     * @return the stack size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all values while keeping the backing array for reuse.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
@@ -1,5 +1,6 @@
 package backend.academy.maze.graph;
 
+import backend.academy.maze.jfr.GraphBuildEvent;
 import backend.academy.maze.model.Cell;
 import backend.academy.maze.model.Maze;
 import java.util.ArrayList;
@@ -24,6 +25,8 @@ public class MazeGraph {
      * that are not walls. Each connection has a weight based on the cell type.
      */
     public void buildGraph() {
+        GraphBuildEvent event = new GraphBuildEvent();
+        event.begin();
         int width = maze.width();
         int height = maze.height();
         Cell[][] cellTypes = maze.maze();
@@ -43,6 +46,7 @@ public class MazeGraph {
                 }
             }
         }
+        event.finish(width, height, graph.size());
     }
 
     /**
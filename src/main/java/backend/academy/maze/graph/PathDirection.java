@@ -0,0 +1,70 @@
+package backend.academy.maze.graph;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The four moves between neighboring cells. Up and down change the row {@code x}, left and right
+ * the position {@code y} within the row, matching the neighbors used by {@link MazeGraph}.
+ * Each move has a one-letter symbol for compact text encodings.
+ */
+@Getter
+@AllArgsConstructor
+public enum PathDirection {
+    UP('U', -1, 0),
+    DOWN('D', 1, 0),
+    LEFT('L', 0, -1),
+    RIGHT('R', 0, 1);
+
+    private static final PathDirection[] DIRECTIONS = values();
+
+    private final char symbol; // One-letter code of the move
+    private final int dx;      // Change of the row
+    private final int dy;      // Change of the position within the row
+
+    /**
+     * Returns the direction of a single step between two neighboring points.
+     *
+     * @param from the point the step starts at
+     * @param to the point the step ends at
+     * @return the direction of the step
+     * @throws IllegalArgumentException if the points are not neighbors
+     */
+    public static PathDirection between(Point from, Point to) {
+        int dx = to.x() - from.x();
+        int dy = to.y() - from.y();
+        for (PathDirection direction : DIRECTIONS) {
+            if (direction.dx == dx && direction.dy == dy) {
+                return direction;
+            }
+        }
+        throw new IllegalArgumentException("Not a single step: " + from.x() + "," + from.y()
+            + " -> " + to.x() + "," + to.y());
+    }
+
+    /**
+     * Returns the direction with the given symbol.
+     *
+     * @param symbol the one-letter code
+     * @return the direction
+     * @throws IllegalArgumentException if no direction has the symbol
+     */
+    public static PathDirection of(char symbol) {
+        for (PathDirection direction : DIRECTIONS) {
+            if (direction.symbol == symbol) {
+                return direction;
+            }
+        }
+        throw new IllegalArgumentException("Unknown direction: " + symbol);
+    }
+
+    /**
+     * Returns the point one step from the given point in this direction.
+     *
+     * @param point the point to move from
+     * @return the neighboring point
+     */
+    public Point apply(Point point) {
+        return new Point(point.x() + dx, point.y() + dy);
+    }
+}
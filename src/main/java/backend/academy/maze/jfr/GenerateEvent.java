@@ -0,0 +1,37 @@
+package backend.academy.maze.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded for every maze built by a generator of a {@code MazeGeneratorType}.
+ */
+@Name("backend.academy.maze.Generate")
+@Label("Maze Generation")
+@Description("Generation of a maze by one algorithm")
+public class GenerateEvent extends MazeEvent {
+    @Label("Algorithm")
+    String algorithm;   // The name of the generator type
+
+    @Label("Cells")
+    long cells;         // The number of cells of the maze
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     *
+     * @param generator the name of the generation algorithm
+     * @param rowCount the number of rows
+     * @param columnCount the number of cells per row
+     */
+    public void finish(String generator, int rowCount, int columnCount) {
+        end();
+        if (shouldCommit()) {
+            algorithm = generator;
+            rows = rowCount;
+            columns = columnCount;
+            cells = (long) rowCount * columnCount;
+            commit();
+        }
+    }
+}
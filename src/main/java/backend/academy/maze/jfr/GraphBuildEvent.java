@@ -0,0 +1,33 @@
+package backend.academy.maze.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded for every graph built from a maze.
+ */
+@Name("backend.academy.maze.GraphBuild")
+@Label("Graph Build")
+@Description("Construction of the weighted graph of the open cells of a maze")
+public class GraphBuildEvent extends MazeEvent {
+    @Label("Nodes")
+    int nodes;  // The number of open cells in the graph
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     *
+     * @param rowCount the number of rows
+     * @param columnCount the number of cells per row
+     * @param nodeCount the number of nodes of the graph
+     */
+    public void finish(int rowCount, int columnCount, int nodeCount) {
+        end();
+        if (shouldCommit()) {
+            rows = rowCount;
+            columns = columnCount;
+            nodes = nodeCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package backend.academy.maze.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * The base of the Java Flight Recorder events of the maze pipeline: every event carries the
+ * dimensions of the maze it worked on and is listed under the {@code Maze} category.
+ *
+ * <p>Events are used as {@code new XxxEvent()}, {@link #begin()}, the work, then {@code finish(...)}
+ * with the fields. {@code finish} sets the fields and commits only when the event is enabled and
+ * above its threshold, and while no recording is running the JIT removes the allocation and the
+ * calls, so instrumented code costs nothing when recording is disabled.</p>
+ */
+@Category("Maze")
+@StackTrace(false)
+public abstract class MazeEvent extends Event {
+    @Label("Rows")
+    int rows;       // The number of rows of the maze
+
+    @Label("Columns")
+    int columns;    // The number of cells per row of the maze
+}
@@ -0,0 +1,51 @@
+package backend.academy.maze.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Recorded for every budgeted search of a pathfinder. The graph does not keep the dimensions of
+ * its maze at hand, so unlike the other maze events this one carries the work of the search
+ * instead.
+ */
+@Name("backend.academy.maze.PathSearch")
+@Label("Path Search")
+@Category("Maze")
+@Description("Search for the shortest path between two points of a maze graph")
+@StackTrace(false)
+public class PathSearchEvent extends Event {
+    @Label("Pathfinder")
+    String pathfinder;  // The name of the algorithm
+
+    @Label("Status")
+    String status;      // How the search ended
+
+    @Label("Expansions")
+    long expansions;    // The number of expanded nodes
+
+    @Label("Path Length")
+    int pathLength;     // The number of points of the full or partial path
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     *
+     * @param algorithm the name of the pathfinder
+     * @param outcome how the search ended
+     * @param expanded the number of expanded nodes
+     * @param length the number of points of the returned path
+     */
+    public void finish(String algorithm, String outcome, long expanded, int length) {
+        end();
+        if (shouldCommit()) {
+            pathfinder = algorithm;
+            status = outcome;
+            expansions = expanded;
+            pathLength = length;
+            commit();
+        }
+    }
+}
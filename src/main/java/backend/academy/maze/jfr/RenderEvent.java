@@ -0,0 +1,40 @@
+package backend.academy.maze.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded for every maze rendered as text, drawn on the console screen, or exported as a PNG
+ * raster or an SVG document. Screen events cover building the frame and drawing it; for a maze
+ * larger than the screen they describe the visible window, not the whole maze.
+ */
+@Name("backend.academy.maze.Render")
+@Label("Maze Rendering")
+@Description("Rendering of a maze and its path for display or export")
+public class RenderEvent extends MazeEvent {
+    @Label("Format")
+    String format;      // The output format: text, terminal, png or svg
+
+    @Label("Path Length")
+    int pathLength;     // The number of points of the drawn path
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     *
+     * @param outputFormat the output format
+     * @param rowCount the number of rows
+     * @param columnCount the number of cells per row
+     * @param length the number of points of the drawn path
+     */
+    public void finish(String outputFormat, int rowCount, int columnCount, int length) {
+        end();
+        if (shouldCommit()) {
+            format = outputFormat;
+            rows = rowCount;
+            columns = columnCount;
+            pathLength = length;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package backend.academy.maze.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded for every placement of special cells by {@code MazeUtils}.
+ */
+@Name("backend.academy.maze.SpecialCells")
+@Label("Special Cells")
+@Description("Replacement of a fraction of the roads with special cells")
+public class SpecialCellsEvent extends MazeEvent {
+    @Label("Ratio")
+    double ratio;       // The requested fraction of roads to replace
+
+    @Label("Roads")
+    int roads;          // The number of road cells found
+
+    @Label("Placed")
+    int placed;         // The number of special cells placed
+
+    @Label("Parallel")
+    boolean parallel;   // Whether the roads were collected in parallel
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     *
+     * @param rowCount the number of rows
+     * @param columnCount the number of cells per row
+     * @param percentage the requested fraction of roads
+     * @param roadCount the number of road cells found
+     * @param placedCount the number of special cells placed
+     * @param inParallel whether the roads were collected in parallel
+     */
+    public void finish(int rowCount, int columnCount, double percentage, int roadCount, int placedCount,
+        boolean inParallel) {
+        end();
+        if (shouldCommit()) {
+            rows = rowCount;
+            columns = columnCount;
+            ratio = percentage;
+            roads = roadCount;
+            placed = placedCount;
+            parallel = inParallel;
+            commit();
+        }
+    }
+}
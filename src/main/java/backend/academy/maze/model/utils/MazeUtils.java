@@ -1,40 +1,118 @@
 package backend.academy.maze.model.utils;
 
+import backend.academy.maze.jfr.SpecialCellsEvent;
 import backend.academy.maze.model.Cell;
 import backend.academy.maze.model.Maze;
-import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
 import lombok.experimental.UtilityClass;
 
 /**
  * Utility class providing methods for manipulating mazes, such as adding special cells.
  * The special cells are distributed across the maze based on a percentage of total road cells.
+ *
+ * <p>Placement collects the indices ({@code x * height + y}) of all road cells in one pass
+ * and then draws the cells to replace with a partial Fisher-Yates shuffle of that index array,
+ * so the cost is linear in the number of cells whatever the percentage. The parallel variant
+ * only parallelizes the collection pass and therefore places exactly the same cells as the
+ * sequential one for the same random generator.</p>
  */
 @UtilityClass
 public class MazeUtils {
 
+    /**
+     * Number of cells from which {@link #addSpecialCells(Maze, double)} collects roads in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 1_048_576;
+
     /**
      * Adds special cells to the maze based on the specified percentage of road cells.
      *
      * @param maze the maze object to modify
      * @param percentage the percentage of road cells to replace with special cells
+     * @throws IllegalArgumentException if the percentage is not in {@code [0, 1]}
      */
     public static void addSpecialCells(Maze maze, double percentage) {
-        int width = maze.width();
-        int height = maze.height();
-        Cell[][] cellTypes = maze.maze();
+        if ((long) maze.width() * maze.height() >= PARALLEL_THRESHOLD) {
+            addSpecialCellsParallel(maze, percentage, ThreadLocalRandom.current());
+        } else {
+            addSpecialCells(maze, percentage, ThreadLocalRandom.current());
+        }
+    }
 
+    /**
+     * Adds special cells to the maze based on the specified percentage of road cells,
+     * drawing all randomness from the given generator.
+     *
+     * @param maze the maze object to modify
+     * @param percentage the percentage of road cells to replace with special cells
+     * @param random the source of randomness
+     * @throws IllegalArgumentException if the percentage is not in {@code [0, 1]}
+     */
+    public static void addSpecialCells(Maze maze, double percentage, RandomGenerator random) {
+        checkPercentage(percentage);
+        SpecialCellsEvent event = new SpecialCellsEvent();
+        event.begin();
+        Cell[][] cellTypes = maze.maze();
+        int[] roads = new int[maze.width() * maze.height()];
         int totalRoadCells = 0;
 
-        // Count the number of road cells
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                if (cellTypes[x][y] == Cell.ROAD) {
-                    totalRoadCells++;
-                }
-            }
+        // Collect the indices of the road cells
+        for (int x = 0; x < maze.width(); x++) {
+            totalRoadCells = collectRoads(cellTypes[x], x * maze.height(), roads, totalRoadCells);
         }
 
+        int placed = placeSpecialCells(maze, roads, totalRoadCells, percentage, random);
+        event.finish(maze.width(), maze.height(), percentage, totalRoadCells, placed, false);
+    }
+
+    /**
+     * Adds special cells to the maze like {@link #addSpecialCells(Maze, double, RandomGenerator)},
+     * collecting the road cells of the columns in parallel.
+     *
+     * @param maze the maze object to modify
+     * @param percentage the percentage of road cells to replace with special cells
+     * @param random the source of randomness
+     * @throws IllegalArgumentException if the percentage is not in {@code [0, 1]}
+     */
+    public static void addSpecialCellsParallel(Maze maze, double percentage, RandomGenerator random) {
+        checkPercentage(percentage);
+        SpecialCellsEvent event = new SpecialCellsEvent();
+        event.begin();
+        Cell[][] cellTypes = maze.maze();
+        int width = maze.width();
+        int height = maze.height();
+
+        // Count the roads of every column, then turn the counts into write offsets
+        int[] offsets = new int[width + 1];
+        IntStream.range(0, width).parallel().forEach(x -> offsets[x + 1] = countRoads(cellTypes[x]));
+        Arrays.parallelPrefix(offsets, Integer::sum);
+
+        int[] roads = new int[offsets[width]];
+        IntStream.range(0, width).parallel().forEach(x -> collectRoads(cellTypes[x], x * height, roads, offsets[x]));
+
+        int placed = placeSpecialCells(maze, roads, roads.length, percentage, random);
+        event.finish(width, height, percentage, roads.length, placed, true);
+    }
+
+    /**
+     * Replaces randomly chosen road cells with special cells. The first cells of a partial
+     * Fisher-Yates shuffle of the road indices are used, split evenly between the special types.
+     *
+     * @param maze the maze object to modify
+     * @param roads the indices of the road cells; reordered in place
+     * @param totalRoadCells the number of valid entries in {@code roads}
+     * @param percentage the percentage of road cells to replace with special cells
+     * @param random the source of randomness
+     * @return the number of special cells placed
+     */
+    private static int placeSpecialCells(
+            Maze maze, int[] roads, int totalRoadCells, double percentage, RandomGenerator random) {
+        Cell[][] cellTypes = maze.maze();
+        int height = maze.height();
+
         // Calculate the number of special cells to add
         int specialCellsCount = (int) (totalRoadCells * percentage);
 
@@ -43,34 +121,51 @@ public class MazeUtils {
 
         // Distribute special cells evenly among the types
         int countPerType = specialCellsCount / specialCellTypes.length;
+        int placed = countPerType * specialCellTypes.length;
 
-        SecureRandom random = new SecureRandom();
-        for (Cell cellType : specialCellTypes) {
-            for (int i = 0; i < countPerType; i++) {
-                replaceRandomCell(cellTypes, width, height, cellType, random);
-            }
+        for (int i = 0; i < placed; i++) {
+            int pick = i + random.nextInt(totalRoadCells - i);
+            int index = roads[pick];
+            roads[pick] = roads[i];
+            roads[i] = index;
+            cellTypes[index / height][index % height] = specialCellTypes[i / countPerType];
+        }
+        return placed;
+    }
+
+    private static void checkPercentage(double percentage) {
+        if (!(percentage >= 0 && percentage <= 1)) {
+            throw new IllegalArgumentException("Invalid special cell ratio: " + percentage);
         }
     }
 
     /**
-     * Replaces a random road cell in the maze with the specified special cell type.
+     * Writes the indices of the road cells of one column into the array.
      *
-     * @param cellTypes the grid of cells in the maze
-     * @param width the width of the maze
-     * @param height the height of the maze
-     * @param newCellType the type of special cell to add
-     * @param random the random number generator to use
+     * @param column the cells of the column
+     * @param base the index of the first cell of the column
+     * @param roads the destination array
+     * @param offset the position of the first index to write
+     * @return the position after the last index written
      */
-    private static void replaceRandomCell(
-            Cell[][] cellTypes, int width, int height, Cell newCellType, SecureRandom random) {
-        int x;
-        int y;
-        do {
-            x = random.nextInt(width);
-            y = random.nextInt(height);
-        } while (cellTypes[x][y] != Cell.ROAD);  // Only replace road cells
-
-        cellTypes[x][y] = newCellType;  // Replace with the new cell type
+    private static int collectRoads(Cell[] column, int base, int[] roads, int offset) {
+        int position = offset;
+        for (int y = 0; y < column.length; y++) {
+            if (column[y] == Cell.ROAD) {
+                roads[position++] = base + y;
+            }
+        }
+        return position;
+    }
+
+    private static int countRoads(Cell[] column) {
+        int count = 0;
+        for (Cell cell : column) {
+            if (cell == Cell.ROAD) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -0,0 +1,275 @@
+package backend.academy.maze.pool;
+
+import backend.academy.maze.generation.MazeGeneratorType;
+import backend.academy.maze.graph.MazeGraph;
+import backend.academy.maze.model.Maze;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A pool of pre-generated mazes, so that a new maze can be handed out without waiting for
+ * generation and graph building. Mazes are kept per generation algorithm and size; for every
+ * key that has been requested the pool keeps up to a fixed number of mazes ready and refills
+ * them in the background after each {@link #take}.
+ *
+ * <p>Refilling runs on a small executor with a bounded queue. The estimated memory held by the pool,
+ * for mazes ready or being generated, is capped; every maze is charged for its grid and for its
+ * routing graph, which is by far the larger of the two. When a refill would exceed the cap,
+ * ready mazes of other keys are evicted first, and if that is not enough the refill is skipped.
+ * A request that finds no ready maze generates one on the calling thread.</p>
+ */
+@Slf4j
+public class MazePool implements AutoCloseable {
+
+    /**
+     * Default number of ready mazes kept per algorithm and size.
+     */
+    public static final int DEFAULT_MAZES_PER_KEY = 2;
+
+    /**
+     * Default cap on the estimated memory held by the pool, in bytes.
+     */
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private static final int QUEUE_CAPACITY = 64;
+
+    // Measured heap use per grid cell: one reference in the grid, and about half of the cells
+    // being roads with a map entry, a point, an edge list and their edges in the graph
+    private static final long GRID_BYTES_PER_CELL = 4;
+    private static final long GRAPH_BYTES_PER_CELL = 128;
+
+    private final int mazesPerKey;
+    private final long maxBytes;
+    private final ThreadPoolExecutor executor;
+    private final Map<Key, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicLong heldBytes = new AtomicLong();
+
+    /**
+     * Creates a pool with the default settings and a single background thread.
+     */
+    public MazePool() {
+        this(DEFAULT_MAZES_PER_KEY, DEFAULT_MAX_BYTES, 1);
+    }
+
+    /**
+     * Creates a pool.
+     *
+     * @param mazesPerKey the number of ready mazes to keep per algorithm and size
+     * @param maxBytes the cap on the estimated memory held by the pool, in bytes
+     * @param threads the number of background threads generating mazes
+     * @throws IllegalArgumentException if any of the arguments is not positive
+     */
+    public MazePool(int mazesPerKey, long maxBytes, int threads) {
+        if (mazesPerKey < 1 || maxBytes < 1 || threads < 1) {
+            throw new IllegalArgumentException(
+                "Invalid pool settings: " + mazesPerKey + ", " + maxBytes + ", " + threads);
+        }
+        this.mazesPerKey = mazesPerKey;
+        this.maxBytes = maxBytes;
+        this.executor = new ThreadPoolExecutor(
+            threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            Thread.ofPlatform().daemon().name("maze-pool-", 0).factory());
+    }
+
+    /**
+     * Returns a maze of the given algorithm and size with its graph built. A ready maze is
+     * returned if there is one, otherwise the maze is generated on the calling thread; in both
+     * cases the pool starts refilling the key in the background.
+     *
+     * @param type the generation algorithm
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @return the maze and its graph, owned by the caller
+     */
+    public PooledMaze take(MazeGeneratorType type, int width, int height) {
+        Key key = new Key(type, width, height);
+        Slot slot = slot(key);
+        PooledMaze pooled = slot.ready.poll();
+        if (pooled != null) {
+            release(key, slot);
+        }
+        refill(key, slot);
+        return pooled != null ? pooled : prepare(key);
+    }
+
+    /**
+     * Starts filling the pool for the given algorithm and size without taking a maze.
+     *
+     * @param type the generation algorithm
+     * @param width the width of the maze
+     * @param height the height of the maze
+     */
+    public void warm(MazeGeneratorType type, int width, int height) {
+        Key key = new Key(type, width, height);
+        refill(key, slot(key));
+    }
+
+    /**
+     * Returns the number of mazes ready to be taken for the given algorithm and size.
+     *
+     * @param type the generation algorithm
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @return the number of ready mazes
+     */
+    public int readyCount(MazeGeneratorType type, int width, int height) {
+        Slot slot = slots.get(new Key(type, width, height));
+        return slot == null ? 0 : slot.ready.size();
+    }
+
+    /**
+     * Returns the memory the pool charges for one maze of the given size with its graph.
+     *
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @return the estimated size of the maze and its graph, in bytes
+     */
+    public static long footprint(int width, int height) {
+        return (long) width * height * (GRID_BYTES_PER_CELL + GRAPH_BYTES_PER_CELL);
+    }
+
+    /**
+     * Stops the background threads; mazes being generated are abandoned.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private Slot slot(Key key) {
+        return slots.computeIfAbsent(key, k -> new Slot());
+    }
+
+    /**
+     * Schedules generation until the slot holds, ready or in progress, the configured number of mazes.
+     */
+    private void refill(Key key, Slot slot) {
+        boolean scheduled = true;
+        while (scheduled && claim(slot)) {
+            scheduled = schedule(key, slot);
+        }
+    }
+
+    /**
+     * Counts one more maze in the slot unless it is full.
+     *
+     * @return {@code true} if the slot had room
+     */
+    private boolean claim(Slot slot) {
+        int count;
+        do {
+            count = slot.count.get();
+            if (count >= mazesPerKey) {
+                return false;
+            }
+        } while (!slot.count.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    /**
+     * Reserves memory for a claimed maze and submits its generation, undoing the claim on failure.
+     *
+     * @return {@code true} if the generation was submitted
+     */
+    private boolean schedule(Key key, Slot slot) {
+        if (!reserve(key)) {
+            slot.count.decrementAndGet();
+            return false;
+        }
+        try {
+            executor.execute(() -> fill(key, slot));
+            return true;
+        } catch (RejectedExecutionException e) {
+            release(key, slot);
+            return false;
+        }
+    }
+
+    private void fill(Key key, Slot slot) {
+        try {
+            slot.ready.add(prepare(key));
+        } catch (RuntimeException e) {
+            release(key, slot);
+            log.warn("Failed to pre-generate a maze", e);
+        }
+    }
+
+    /**
+     * Gives back the memory and the slot place held by one maze.
+     */
+    private void release(Key key, Slot slot) {
+        slot.count.decrementAndGet();
+        heldBytes.addAndGet(-key.bytes());
+    }
+
+    /**
+     * Reserves room for one maze of the key, evicting ready mazes of other keys if needed.
+     *
+     * @return {@code true} if the room was reserved
+     */
+    private boolean reserve(Key key) {
+        long bytes = key.bytes();
+        if (bytes > maxBytes) {
+            return false;
+        }
+        while (heldBytes.addAndGet(bytes) > maxBytes) {
+            heldBytes.addAndGet(-bytes);
+            if (!evictOther(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean evictOther(Key key) {
+        for (Map.Entry<Key, Slot> entry : slots.entrySet()) {
+            if (!entry.getKey().equals(key) && entry.getValue().ready.poll() != null) {
+                release(entry.getKey(), entry.getValue());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static PooledMaze prepare(Key key) {
+        Maze maze = key.type.generator().generate(key.width, key.height);
+        MazeGraph graph = new MazeGraph(maze);
+        graph.buildGraph();
+        return new PooledMaze(maze, graph);
+    }
+
+    /**
+     * The pool key: the generation algorithm and the maze size.
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class Key {
+        private final MazeGeneratorType type;
+        private final int width;
+        private final int height;
+
+        long bytes() {
+            return footprint(width, height);
+        }
+    }
+
+    /**
+     * The mazes of one key; the count covers both ready mazes and mazes being generated.
+     */
+    private static final class Slot {
+        private final Queue<PooledMaze> ready = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger count = new AtomicInteger();
+    }
+}
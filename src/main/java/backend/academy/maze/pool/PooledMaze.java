@@ -0,0 +1,18 @@
+package backend.academy.maze.pool;
+
+import backend.academy.maze.graph.MazeGraph;
+import backend.academy.maze.model.Maze;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A maze prepared by the {@link MazePool} together with its routing graph, already built.
+ * Once taken from the pool the maze belongs to the caller; if the caller changes its cells,
+ * the graph no longer matches and has to be rebuilt.
+ */
+@Getter
+@AllArgsConstructor
+public class PooledMaze {
+    private final Maze maze;       // The generated maze
+    private final MazeGraph graph; // The graph built from the maze
+}
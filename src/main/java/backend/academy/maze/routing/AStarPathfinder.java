@@ -3,8 +3,7 @@ package backend.academy.maze.routing;
 import backend.academy.maze.graph.Edge;
 import backend.academy.maze.graph.MazeGraph;
 import backend.academy.maze.graph.Point;
-import java.util.ArrayList;
-import java.util.Collections;
+import backend.academy.maze.jfr.PathSearchEvent;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -31,6 +30,9 @@ public class AStarPathfinder implements Pathfinder {
 
     public static final double NUM = 0.75;
 
+    // The algorithm name in flight recorder events, as in PathfinderType
+    private static final String EVENT_NAME = "ASTAR";
+
     /**
      * Finds the shortest path between two points in the maze graph using the A* algorithm.
      *
@@ -42,6 +44,39 @@ public class AStarPathfinder implements Pathfinder {
      */
     @Override
     public List<Point> findPath(MazeGraph graph, Point start, Point end) {
+        return findCompactPath(graph, start, end).toList();
+    }
+
+    /**
+     * Finds the shortest path and reconstructs it straight into compact form.
+     *
+     * @param graph the maze graph representing the maze structure
+     * @param start the starting point of the path
+     * @param end the destination point of the path
+     * @return the shortest path from start to end, or the empty path if no path is found
+     */
+    @Override
+    public CompactPath findCompactPath(MazeGraph graph, Point start, Point end) {
+        return findPath(graph, start, end, SearchBudget.unlimited()).path();
+    }
+
+    /**
+     * Finds the shortest path within a budget. The budget is checked before every expansion; when
+     * it runs out, the result holds the path to the expanded node closest to the end. The counters
+     * are kept in locals and recorded once at the end, so collection costs nothing per node.
+     *
+     * @param graph the maze graph representing the maze structure
+     * @param start the starting point of the path
+     * @param end the destination point of the path
+     * @param budget the limits on the work of the search
+     * @param stats the collector to record the search into, or {@code null} to skip collection
+     * @return the outcome of the search with the full, partial or empty path
+     */
+    @Override
+    public SearchResult findPath(MazeGraph graph, Point start, Point end, SearchBudget budget, SearchStats stats) {
+        PathSearchEvent event = new PathSearchEvent();
+        event.begin();
+        long startTime = stats == null ? 0 : System.nanoTime();
         int estimatedSize = graph.graph().size();  // Estimated graph size
 
         // Initialize gScore and fScore maps, and other collections
@@ -57,16 +92,43 @@ public class AStarPathfinder implements Pathfinder {
         gScore.put(start, 0);
         fScore.put(start, heuristic(start, end));
         openQueue.add(new PointDistance(start, fScore.get(start)));
+        Point closest = start; // The expanded point with the lowest heuristic, for partial results
+        SearchResult result = null;
+
+        // Search counters
+        long expansions = 0;
+        long relaxed = 0;
+        long pushes = 1;
+        long pops = 0;
+        long stale = 0;
+        int peak = 1;
 
         // Main A* loop
         while (!openQueue.isEmpty()) {
             Point current = openQueue.poll().point();
+            pops++;
 
             if (current.equals(end)) {
-                return buildPath(previous, start, end);
+                result = SearchResult.found(CompactPath.fromPredecessors(previous, start, end), expansions);
+                break;
             }
 
-            closedSet.add(current);
+            // Skip stale queue entries of points that were already expanded
+            if (!closedSet.add(current)) {
+                stale++;
+                continue;
+            }
+
+            SearchStatus exceeded = budget.exceeded(expansions);
+            if (exceeded != null) {
+                result = SearchResult.exceeded(exceeded, CompactPath.fromPredecessors(previous, start, closest),
+                    expansions);
+                break;
+            }
+            expansions++;
+            if (heuristic(current, end) < heuristic(closest, end)) {
+                closest = current;
+            }
 
             // Get neighbors
             List<Edge> edges = graph.graph().get(current);
@@ -77,6 +139,7 @@ public class AStarPathfinder implements Pathfinder {
             // Process neighbors
             for (Edge edge : edges) {
                 Point neighbor = edge.to();
+                relaxed++;
 
                 if (closedSet.contains(neighbor)) {
                     continue;
@@ -90,11 +153,20 @@ public class AStarPathfinder implements Pathfinder {
                     fScore.put(neighbor, tentativeGScore + heuristic(neighbor, end));
 
                     openQueue.add(new PointDistance(neighbor, fScore.get(neighbor)));
+                    pushes++;
+                    peak = Math.max(peak, openQueue.size());
                 }
             }
         }
 
-        return Collections.emptyList(); // Return empty list if no path is found
+        if (result == null) {
+            result = SearchResult.notFound(expansions); // No path is found
+        }
+        if (stats != null) {
+            stats.count(expansions, relaxed, pushes, pops, stale, peak, System.nanoTime() - startTime);
+        }
+        event.finish(EVENT_NAME, result.status().label(), expansions, result.path().length());
+        return result;
     }
 
     /**
@@ -108,25 +180,4 @@ public class AStarPathfinder implements Pathfinder {
     private int heuristic(Point a, Point b) {
         return Math.abs(a.x() - b.x()) + Math.abs(a.y() - b.y());
     }
-
-    /**
-     * Builds the path by backtracking from the destination to the start point.
-     *
-     * @param previous a map of points leading to each other
-     * @param start the starting point of the path
-     * @param end the destination point of the path
-     * @return a list of points representing the path, or an empty list if the path cannot be reconstructed
-     */
-    private List<Point> buildPath(Map<Point, Point> previous, Point start, Point end) {
-        List<Point> path = new ArrayList<>(previous.size());
-        Point current = end;
-
-        while (!current.equals(start)) {
-            path.add(current);
-            current = previous.get(current);
-        }
-        path.add(start);
-        Collections.reverse(path); // Reverse to get the correct order
-        return path;
-    }
 }
@@ -0,0 +1,27 @@
+package backend.academy.maze.routing;
+
+/**
+ * A flag that another thread raises to stop a running search. Pathfinders poll it between node
+ * expansions, so cancellation takes effect within a few hundred expansions rather than instantly.
+ *
+ * @see SearchBudget
+ */
+public class CancellationToken {
+    private volatile boolean cancelled;
+
+    /**
+     * Requests cancellation of every search using this token. Cannot be undone.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Checks whether cancellation was requested.
+     *
+     * @return {@code true} once {@link #cancel()} has been called
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,330 @@
+package backend.academy.maze.routing;
+
+import backend.academy.maze.graph.PathDirection;
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Cell;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A path stored as its start point and one {@link PathDirection} per step, packed two bits per
+ * step into a {@code long[]}, instead of one {@link Point} object per cell. A path of a million
+ * steps takes 250 KB rather than tens of megabytes.
+ *
+ * <p>Points are produced lazily by {@link #iterator()} and materialized only by {@link #toList()}.
+ * The path can also be written in a run-length form such as {@code R3DL2}, one direction symbol
+ * followed by its repeat count when the count is above one. Instances are immutable.</p>
+ */
+public final class CompactPath implements Iterable<Point> {
+    private static final int BITS_PER_MOVE = 2;
+    private static final int MOVES_PER_WORD = Long.SIZE / BITS_PER_MOVE;
+    private static final long MOVE_MASK = (1L << BITS_PER_MOVE) - 1;
+    private static final PathDirection[] DIRECTIONS = PathDirection.values();
+    private static final int RADIX = 10;
+    private static final CompactPath EMPTY = new CompactPath(null, new long[0], 0);
+
+    private final Point start;
+    private final long[] codes;
+    private final int moves;
+
+    private CompactPath(Point start, long[] codes, int moves) {
+        this.start = start;
+        this.codes = codes;
+        this.moves = moves;
+    }
+
+    /**
+     * Returns the empty path, which has no points at all.
+     *
+     * @return the empty path
+     */
+    public static CompactPath empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Encodes a list of points.
+     *
+     * @param points the points of the path, each a neighbor of the previous one
+     * @return the compact path
+     * @throws IllegalArgumentException if two consecutive points are not neighbors
+     */
+    public static CompactPath of(List<Point> points) {
+        if (points.isEmpty()) {
+            return EMPTY;
+        }
+        Builder builder = new Builder(points.size() - 1);
+        Point previous = points.getFirst();
+        for (int i = 1; i < points.size(); i++) {
+            Point current = points.get(i);
+            builder.add(PathDirection.between(previous, current));
+            previous = current;
+        }
+        return builder.build(points.getFirst());
+    }
+
+    /**
+     * Walks a predecessor map back from the end to the start, as left by a shortest-path search.
+     *
+     * @param previous the predecessor of every reached point except the start
+     * @param start the start point
+     * @param end the end point
+     * @return the path from start to end, or the empty path if the chain from the end does not reach the start
+     */
+    public static CompactPath fromPredecessors(Map<Point, Point> previous, Point start, Point end) {
+        Builder builder = new Builder(0);
+        Point current = end;
+        while (!current.equals(start)) {
+            Point before = previous.get(current);
+            if (before == null) {
+                return EMPTY;
+            }
+            builder.add(PathDirection.between(before, current));
+            current = before;
+        }
+        return builder.buildReversed(start);
+    }
+
+    /**
+     * Decodes the run-length form written by {@link #runLength()}.
+     *
+     * @param start the start point
+     * @param runs the runs, such as {@code R3DL2}
+     * @return the compact path
+     * @throws IllegalArgumentException if the runs are malformed or a run has an explicit count of zero
+     */
+    public static CompactPath fromRunLength(Point start, String runs) {
+        Builder builder = new Builder(runs.length());
+        int i = 0;
+        while (i < runs.length()) {
+            PathDirection direction = PathDirection.of(runs.charAt(i++));
+            int digits = i;
+            int count = 0;
+            while (i < runs.length() && runs.charAt(i) >= '0' && runs.charAt(i) <= '9') {
+                count = Math.addExact(Math.multiplyExact(count, RADIX), runs.charAt(i++) - '0');
+            }
+            if (i == digits) {
+                count = 1; // A direction without a count is a single step
+            } else if (count == 0) {
+                throw new IllegalArgumentException("Empty run at index " + (digits - 1) + ": " + runs);
+            }
+            for (int repeat = count; repeat > 0; repeat--) {
+                builder.add(direction);
+            }
+        }
+        return builder.build(start);
+    }
+
+    /**
+     * Checks whether the path has no points.
+     *
+     * @return {@code true} for the empty path
+     */
+    public boolean isEmpty() {
+        return start == null;
+    }
+
+    /**
+     * Returns the number of points of the path, counting both endpoints, like the size of the
+     * corresponding list.
+     *
+     * @return the number of points, or {@code 0} for the empty path
+     */
+    public int length() {
+        return isEmpty() ? 0 : moves + 1;
+    }
+
+    /**
+     * Returns the number of steps of the path.
+     *
+     * @return the number of steps
+     */
+    public int moves() {
+        return moves;
+    }
+
+    /**
+     * Returns the first point of the path.
+     *
+     * @return the start point, or {@code null} for the empty path
+     */
+    public Point start() {
+        return start;
+    }
+
+    /**
+     * Returns the direction of a step.
+     *
+     * @param index the index of the step, in {@code [0, moves())}
+     * @return the direction of the step
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PathDirection direction(int index) {
+        if (index < 0 || index >= moves) {
+            throw new IndexOutOfBoundsException("Step " + index + " of " + moves);
+        }
+        return DIRECTIONS[code(index)];
+    }
+
+    /**
+     * Computes the cost of the path in the given maze: the sum of the weights of the cells entered
+     * along the path, which is the cost of the same path in the maze graph.
+     *
+     * @param maze the cells of the maze
+     * @return the cost of the path, {@code 0} for an empty or single-point path
+     */
+    public long cost(Cell[][] maze) {
+        if (isEmpty()) {
+            return 0;
+        }
+        long cost = 0;
+        int x = start.x();
+        int y = start.y();
+        for (int i = 0; i < moves; i++) {
+            PathDirection direction = DIRECTIONS[code(i)];
+            x += direction.dx();
+            y += direction.dy();
+            cost += maze[x][y].value();
+        }
+        return cost;
+    }
+
+    /**
+     * Iterates over the points of the path, creating each point when it is reached.
+     *
+     * @return an iterator over the points from start to end
+     */
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<>() {
+            private int next = -1;
+            private Point current;
+
+            @Override
+            public boolean hasNext() {
+                return next < moves && !isEmpty();
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                current = next < 0 ? start : DIRECTIONS[code(next)].apply(current);
+                next++;
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Materializes the points of the path.
+     *
+     * @return a new list of the points from start to end
+     */
+    public List<Point> toList() {
+        List<Point> points = new ArrayList<>(length());
+        for (Point point : this) {
+            points.add(point);
+        }
+        return points;
+    }
+
+    /**
+     * Writes the steps in run-length form: every run of equal directions becomes the direction
+     * symbol followed by the run length when it is above one.
+     *
+     * @return the runs, empty for a path without steps
+     */
+    public String runLength() {
+        StringBuilder runs = new StringBuilder();
+        int i = 0;
+        while (i < moves) {
+            int code = code(i);
+            int end = i + 1;
+            while (end < moves && code(end) == code) {
+                end++;
+            }
+            runs.append(DIRECTIONS[code].symbol());
+            if (end - i > 1) {
+                runs.append(end - i);
+            }
+            i = end;
+        }
+        return runs.toString();
+    }
+
+    @Override
+    public String toString() {
+        return isEmpty() ? "[]" : "(" + start.x() + ", " + start.y() + ") " + runLength();
+    }
+
+    private int code(int index) {
+        return code(codes, index);
+    }
+
+    private static int code(long[] codes, int index) {
+        return (int) (codes[index / MOVES_PER_WORD] >>> (index % MOVES_PER_WORD * BITS_PER_MOVE) & MOVE_MASK);
+    }
+
+    /**
+     * Collects steps into a packed buffer that grows as needed.
+     */
+    public static final class Builder {
+        private long[] codes;
+        private int moves;
+
+        /**
+         * Creates a builder.
+         *
+         * @param expectedMoves the expected number of steps, used to size the buffer
+         */
+        public Builder(int expectedMoves) {
+            this.codes = new long[Math.max(1, (expectedMoves + MOVES_PER_WORD - 1) / MOVES_PER_WORD)];
+        }
+
+        /**
+         * Appends a step.
+         *
+         * @param direction the direction of the step
+         * @return this builder
+         */
+        public Builder add(PathDirection direction) {
+            int word = moves / MOVES_PER_WORD;
+            if (word == codes.length) {
+                codes = Arrays.copyOf(codes, codes.length * 2);
+            }
+            codes[word] |= (long) direction.ordinal() << (moves % MOVES_PER_WORD * BITS_PER_MOVE);
+            moves++;
+            return this;
+        }
+
+        /**
+         * Builds the path with the steps in the order they were added.
+         *
+         * @param start the start point
+         * @return the path
+         */
+        public CompactPath build(Point start) {
+            return new CompactPath(start, Arrays.copyOf(codes, (moves + MOVES_PER_WORD - 1) / MOVES_PER_WORD), moves);
+        }
+
+        /**
+         * Builds the path with the steps in reverse order, for steps collected from the end backwards.
+         *
+         * @param start the start point
+         * @return the path
+         */
+        public CompactPath buildReversed(Point start) {
+            Builder reversed = new Builder(moves);
+            for (int i = moves - 1; i >= 0; i--) {
+                reversed.add(DIRECTIONS[code(codes, i)]);
+            }
+            return reversed.build(start);
+        }
+    }
+}
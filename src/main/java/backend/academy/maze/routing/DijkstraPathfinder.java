@@ -3,8 +3,7 @@ package backend.academy.maze.routing;
 import backend.academy.maze.graph.Edge;
 import backend.academy.maze.graph.MazeGraph;
 import backend.academy.maze.graph.Point;
-import java.util.ArrayList;
-import java.util.Collections;
+import backend.academy.maze.jfr.PathSearchEvent;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -33,6 +32,9 @@ public class DijkstraPathfinder implements Pathfinder {
     // Optimal collection load factor
     public static final double NUM = 0.75;
 
+    // The algorithm name in flight recorder events, as in PathfinderType
+    private static final String EVENT_NAME = "DIJKSTRA";
+
     /**
      * Finds the shortest path between two points in the maze graph using Dijkstra's algorithm.
      *
@@ -44,6 +46,39 @@ public class DijkstraPathfinder implements Pathfinder {
      */
     @Override
     public List<Point> findPath(MazeGraph graph, Point start, Point end) {
+        return findCompactPath(graph, start, end).toList();
+    }
+
+    /**
+     * Finds the shortest path and reconstructs it straight into compact form.
+     *
+     * @param graph the maze graph representing the maze structure
+     * @param start the starting point of the path
+     * @param end the destination point of the path
+     * @return the shortest path from start to end, or the empty path if no path is found
+     */
+    @Override
+    public CompactPath findCompactPath(MazeGraph graph, Point start, Point end) {
+        return findPath(graph, start, end, SearchBudget.unlimited()).path();
+    }
+
+    /**
+     * Finds the shortest path within a budget. The budget is checked before every expansion; when
+     * it runs out, the result holds the path to the expanded node closest to the end. The counters
+     * are kept in locals and recorded once at the end, so collection costs nothing per node.
+     *
+     * @param graph the maze graph representing the maze structure
+     * @param start the starting point of the path
+     * @param end the destination point of the path
+     * @param budget the limits on the work of the search
+     * @param stats the collector to record the search into, or {@code null} to skip collection
+     * @return the outcome of the search with the full, partial or empty path
+     */
+    @Override
+    public SearchResult findPath(MazeGraph graph, Point start, Point end, SearchBudget budget, SearchStats stats) {
+        PathSearchEvent event = new PathSearchEvent();
+        event.begin();
+        long startTime = stats == null ? 0 : System.nanoTime();
         int estimatedSize = graph.graph().size();
 
         // Initializing collections with optimal size
@@ -57,18 +92,41 @@ public class DijkstraPathfinder implements Pathfinder {
 
         distances.put(start, 0);
         queue.add(new PointDistance(start, 0));
+        Point closest = start; // The expanded point nearest to the end, for partial results
+        SearchResult result = null;
+
+        // Search counters
+        long expansions = 0;
+        long relaxed = 0;
+        long pushes = 1;
+        long pops = 0;
+        long stale = 0;
+        int peak = 1;
 
         while (!queue.isEmpty()) {
-            PointDistance current = queue.poll();
-            Point currentPoint = current.point();
+            Point currentPoint = queue.poll().point();
+            pops++;
 
+            // A point reached again at a lower cost leaves its older entries in the queue
             if (!visited.add(currentPoint)) {
-                log.info("Already visited: {}", currentPoint);
+                stale++;
                 continue;
             }
 
             if (currentPoint.equals(end)) {
-                return buildPath(previous, start, end); // Reconstructing the path
+                CompactPath path = buildPath(previous, start, end); // Reconstructing the path
+                result = path.isEmpty() ? SearchResult.notFound(expansions) : SearchResult.found(path, expansions);
+                break;
+            }
+
+            SearchStatus exceeded = budget.exceeded(expansions);
+            if (exceeded != null) {
+                result = SearchResult.exceeded(exceeded, buildPath(previous, start, closest), expansions);
+                break;
+            }
+            expansions++;
+            if (remaining(currentPoint, end) < remaining(closest, end)) {
+                closest = currentPoint;
             }
 
             List<Edge> edges = graph.graph().get(currentPoint);
@@ -79,16 +137,26 @@ public class DijkstraPathfinder implements Pathfinder {
             for (Edge edge : edges) {
                 Point neighbor = edge.to();
                 int newDist = distances.get(currentPoint) + edge.weight();
+                relaxed++;
 
                 if (newDist < distances.getOrDefault(neighbor, Integer.MAX_VALUE)) {
                     distances.put(neighbor, newDist);
                     previous.put(neighbor, currentPoint);
                     queue.add(new PointDistance(neighbor, newDist));
+                    pushes++;
+                    peak = Math.max(peak, queue.size());
                 }
             }
         }
 
-        return Collections.emptyList();
+        if (result == null) {
+            result = SearchResult.notFound(expansions);
+        }
+        if (stats != null) {
+            stats.count(expansions, relaxed, pushes, pops, stale, peak, System.nanoTime() - startTime);
+        }
+        event.finish(EVENT_NAME, result.status().label(), expansions, result.path().length());
+        return result;
     }
 
     /**
@@ -97,24 +165,24 @@ public class DijkstraPathfinder implements Pathfinder {
      * @param previous a map of points leading to each other
      * @param start the starting point of the path
      * @param end the end point of the path
-     * @return a list of points representing the path, or an empty list if the path cannot be reconstructed
+     * @return the path, or the empty path if the path cannot be reconstructed
      */
-    private List<Point> buildPath(Map<Point, Point> previous, Point start, Point end) {
-        List<Point> path = new ArrayList<>(previous.size());  // Pre-allocate size
-        Point current = end;
-
-        while (current != null && !current.equals(start)) {
-            path.add(current);
-            current = previous.get(current);
-        }
-
-        if (current == null) {
+    private CompactPath buildPath(Map<Point, Point> previous, Point start, Point end) {
+        CompactPath path = CompactPath.fromPredecessors(previous, start, end);
+        if (path.isEmpty()) {
             log.error("Failed to reconstruct the path.");
-            return Collections.emptyList();
         }
-
-        path.add(start);
-        Collections.reverse(path); // Reverse to get the correct order
         return path;
     }
+
+    /**
+     * Estimates the remaining distance to the end as the Manhattan distance, to rank partial paths.
+     *
+     * @param point the point reached
+     * @param end the end point
+     * @return the Manhattan distance between the points
+     */
+    private static int remaining(Point point, Point end) {
+        return Math.abs(point.x() - end.x()) + Math.abs(point.y() - end.y());
+    }
 }
@@ -0,0 +1,296 @@
+package backend.academy.maze.routing;
+
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * The EndpointSelector class picks start and end points that make a maze hard to solve.
+ * Costs are measured like the pathfinders do: every step costs the weight of the cell it enters.
+ *
+ * <p>Every query runs a small number of single-source shortest-path sweeps over the grid, never a
+ * search per pair of cells. A sweep is Dijkstra's algorithm on packed indices {@code x * height + y}
+ * with an int distance array and a binary heap of packed {@code (distance, index)} longs.</p>
+ *
+ * <p>{@link #hardest(Maze)} approximates the weighted diameter with repeated sweeps: each sweep starts
+ * from the farthest cell found by the previous one. When the first sweep shows that the component is a
+ * tree, two sweeps are enough; otherwise sweeping continues while the distance grows, up to a limit.
+ * {@link #sample(Maze, double, RandomGenerator)} picks a random start and an end among the cells
+ * farthest from it.</p>
+ */
+public class EndpointSelector {
+
+    /**
+     * Default maximum number of sweeps of {@link #hardest(Maze)} for mazes with loops.
+     */
+    public static final int DEFAULT_MAX_SWEEPS = 8;
+
+    /**
+     * Default difficulty percentile of {@link #sample(Maze, double, RandomGenerator)}.
+     */
+    public static final double DEFAULT_PERCENTILE = 0.9;
+
+    private static final String NO_OPEN_CELLS = "The maze has no open cells";
+
+    private final int maxSweeps;
+
+    /**
+     * Constructs a selector with the default sweep limit.
+     */
+    public EndpointSelector() {
+        this(DEFAULT_MAX_SWEEPS);
+    }
+
+    /**
+     * Constructs a selector.
+     *
+     * @param maxSweeps the maximum number of sweeps for mazes with loops, at least 2
+     * @throws IllegalArgumentException if the limit is less than 2
+     */
+    public EndpointSelector(int maxSweeps) {
+        if (maxSweeps < 2) {
+            throw new IllegalArgumentException("Invalid sweep limit: " + maxSweeps);
+        }
+        this.maxSweeps = maxSweeps;
+    }
+
+    /**
+     * Finds the two points farthest apart in the component of the first open cell.
+     * The result is exact for perfect mazes and a close lower bound for mazes with loops.
+     *
+     * @param maze the maze
+     * @return the chosen endpoints
+     * @throws IllegalArgumentException if the maze has no open cells
+     */
+    public Endpoints hardest(Maze maze) {
+        Sweep sweep = new Sweep(maze);
+        int source = sweep.openCell(0);
+        if (source < 0) {
+            throw new IllegalArgumentException(NO_OPEN_CELLS);
+        }
+
+        sweep.run(source);
+        boolean tree = sweep.edges() == sweep.reached() - 1;
+        int start = sweep.farthest();
+        sweep.run(start);
+        int end = sweep.farthest();
+        int distance = sweep.distance(end);
+
+        for (int sweeps = 2; !tree && sweeps < maxSweeps; sweeps++) {
+            sweep.run(end);
+            int next = sweep.farthest();
+            if (sweep.distance(next) <= distance) {
+                break;
+            }
+            start = end;
+            end = next;
+            distance = sweep.distance(next);
+        }
+        return new Endpoints(sweep.toPoint(start), sweep.toPoint(end), distance);
+    }
+
+    /**
+     * Picks a random start and a random end among the cells reachable from it whose distance
+     * is at or above the given percentile of all distances from the start.
+     *
+     * @param maze the maze
+     * @param percentile the difficulty percentile, in {@code [0, 1]}
+     * @param random the source of randomness
+     * @return the chosen endpoints
+     * @throws IllegalArgumentException if the percentile is out of range or the maze has no open cells
+     */
+    public Endpoints sample(Maze maze, double percentile, RandomGenerator random) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("Invalid percentile: " + percentile);
+        }
+        Sweep sweep = new Sweep(maze);
+        int openCells = sweep.countOpenCells();
+        if (openCells == 0) {
+            throw new IllegalArgumentException(NO_OPEN_CELLS);
+        }
+
+        int start = sweep.openCell(random.nextInt(openCells));
+        sweep.run(start);
+
+        int[] reachedDistances = sweep.reachedDistances();
+        Arrays.sort(reachedDistances);
+        int rank = Math.min(reachedDistances.length - 1, (int) (percentile * reachedDistances.length));
+        int threshold = reachedDistances[rank];
+
+        // Reservoir sampling over the cells at or above the threshold
+        int end = start;
+        int candidates = 0;
+        for (int index = 0; index < sweep.size(); index++) {
+            if (sweep.distance(index) >= threshold && sweep.distance(index) != Integer.MAX_VALUE
+                && random.nextInt(++candidates) == 0) {
+                end = index;
+            }
+        }
+        return new Endpoints(sweep.toPoint(start), sweep.toPoint(end), sweep.distance(end));
+    }
+
+    /**
+     * Single-source shortest-path sweeps over one maze. The arrays are reused between sweeps.
+     */
+    private static final class Sweep {
+        private static final int INITIAL_HEAP_CAPACITY = 64;
+        private static final int INDEX_BITS = 32;
+        private static final long INDEX_MASK = 0xFFFF_FFFFL;
+
+        private final Cell[][] cells;
+        private final int width;
+        private final int height;
+        private final int[] distance;
+        private long[] heap = new long[INITIAL_HEAP_CAPACITY];
+        private int heapSize;
+        private int reached;
+        private long degreeSum;
+        private int farthest;
+
+        Sweep(Maze maze) {
+            this.cells = maze.maze();
+            this.width = maze.width();
+            this.height = maze.height();
+            this.distance = new int[width * height];
+        }
+
+        /**
+         * Computes the distances from the source to every reachable cell.
+         */
+        void run(int source) {
+            Arrays.fill(distance, Integer.MAX_VALUE);
+            heapSize = 0;
+            reached = 0;
+            degreeSum = 0;
+            farthest = source;
+
+            distance[source] = 0;
+            push(source, 0);
+            while (heapSize > 0) {
+                long top = pop();
+                int current = (int) (top & INDEX_MASK);
+                int currentDistance = (int) (top >>> INDEX_BITS);
+                if (currentDistance > distance[current]) {
+                    continue; // Stale entry
+                }
+                reached++;
+                if (currentDistance > distance[farthest]) {
+                    farthest = current;
+                }
+                int x = current / height;
+                int y = current % height;
+                relax(currentDistance, x - 1, y);
+                relax(currentDistance, x + 1, y);
+                relax(currentDistance, x, y - 1);
+                relax(currentDistance, x, y + 1);
+            }
+        }
+
+        private void relax(int currentDistance, int x, int y) {
+            if (x < 0 || y < 0 || x >= width || y >= height || cells[x][y] == Cell.WALL) {
+                return;
+            }
+            degreeSum++;
+            int next = x * height + y;
+            int nextDistance = currentDistance + cells[x][y].value();
+            if (nextDistance < distance[next]) {
+                distance[next] = nextDistance;
+                push(next, nextDistance);
+            }
+        }
+
+        int size() {
+            return distance.length;
+        }
+
+        int distance(int index) {
+            return distance[index];
+        }
+
+        int farthest() {
+            return farthest;
+        }
+
+        int reached() {
+            return reached;
+        }
+
+        long edges() {
+            return degreeSum / 2;
+        }
+
+        int[] reachedDistances() {
+            return Arrays.stream(distance).filter(d -> d != Integer.MAX_VALUE).toArray();
+        }
+
+        int countOpenCells() {
+            int count = 0;
+            for (Cell[] row : cells) {
+                for (Cell cell : row) {
+                    if (cell != Cell.WALL) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Returns the packed index of the open cell with the given rank in memory order, or {@code -1}.
+         */
+        int openCell(int rank) {
+            int seen = 0;
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    if (cells[x][y] != Cell.WALL && seen++ == rank) {
+                        return x * height + y;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        Point toPoint(int index) {
+            return new Point(index / height, index % height);
+        }
+
+        private void push(int index, int key) {
+            if (heapSize == heap.length) {
+                heap = Arrays.copyOf(heap, heap.length * 2);
+            }
+            long entry = (long) key << INDEX_BITS | index;
+            int child = heapSize++;
+            while (child > 0) {
+                int parent = (child - 1) / 2;
+                if (heap[parent] <= entry) {
+                    break;
+                }
+                heap[child] = heap[parent];
+                child = parent;
+            }
+            heap[child] = entry;
+        }
+
+        private long pop() {
+            long top = heap[0];
+            long last = heap[--heapSize];
+            int parent = 0;
+            int child = 1;
+            while (child < heapSize) {
+                if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (last <= heap[child]) {
+                    break;
+                }
+                heap[parent] = heap[child];
+                parent = child;
+                child = parent * 2 + 1;
+            }
+            heap[parent] = last;
+            return top;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package backend.academy.maze.routing;
+
+import backend.academy.maze.graph.Point;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A start and an end point chosen by the {@link EndpointSelector}, with the cost of the
+ * shortest path between them.
+ */
+@Getter
+@AllArgsConstructor
+public class Endpoints {
+    private final Point start;  // The start point
+    private final Point end;    // The end point
+    private final int distance; // The cost of the shortest path from start to end
+}
@@ -23,4 +23,52 @@ public interface Pathfinder {
      *         or an empty list if no path is found
      */
     List<Point> findPath(MazeGraph graph, Point start, Point end);
+
+    /**
+     * Finds the path between two points in a maze graph and returns it in compact form.
+     * Implementations should override this to build the compact path directly instead of
+     * converting a list of points.
+     *
+     * @param graph the maze graph representing the maze structure
+     * @param start the starting point of the path
+     * @param end the destination point of the path
+     * @return the path from start to end, or the empty path if no path is found
+     */
+    default CompactPath findCompactPath(MazeGraph graph, Point start, Point end) {
+        return CompactPath.of(findPath(graph, start, end));
+    }
+
+    /**
+     * Finds the path between two points within a budget.
+     *
+     * @param graph the maze graph representing the maze structure
+     * @param start the starting point of the path
+     * @param end the destination point of the path
+     * @param budget the limits on the work of the search
+     * @return the outcome of the search with the full, partial or empty path
+     */
+    default SearchResult findPath(MazeGraph graph, Point start, Point end, SearchBudget budget) {
+        return findPath(graph, start, end, budget, null);
+    }
+
+    /**
+     * Finds the path between two points within a budget and records the work of the search.
+     * Implementations that cannot stop early run to completion and report
+     * {@link SearchStatus#FOUND} or {@link SearchStatus#NOT_FOUND}, recording only the wall time.
+     *
+     * @param graph the maze graph representing the maze structure
+     * @param start the starting point of the path
+     * @param end the destination point of the path
+     * @param budget the limits on the work of the search
+     * @param stats the collector to record the search into, or {@code null} to skip collection
+     * @return the outcome of the search with the full, partial or empty path
+     */
+    default SearchResult findPath(MazeGraph graph, Point start, Point end, SearchBudget budget, SearchStats stats) {
+        long startTime = stats == null ? 0 : System.nanoTime();
+        CompactPath path = findCompactPath(graph, start, end);
+        if (stats != null) {
+            stats.count(0, 0, 0, 0, 0, 0, System.nanoTime() - startTime);
+        }
+        return path.isEmpty() ? SearchResult.notFound(0) : SearchResult.found(path, 0);
+    }
 }
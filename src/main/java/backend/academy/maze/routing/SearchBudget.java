@@ -0,0 +1,103 @@
+package backend.academy.maze.routing;
+
+import java.time.Duration;
+
+/**
+ * Limits on the work of a single search: a maximum number of node expansions, a deadline and a
+ * {@link CancellationToken}, any of which may be absent. Budgets are immutable; the {@code with}
+ * methods return a copy with one more limit.
+ *
+ * <p>The expansion limit is exact. The deadline and the token are polled every
+ * {@value #CHECK_INTERVAL} expansions, so reading the clock stays off the hot path; a search may
+ * overrun its deadline by the time of that many expansions.</p>
+ */
+public final class SearchBudget {
+
+    /**
+     * The number of expansions between two checks of the deadline and the cancellation token.
+     */
+    public static final int CHECK_INTERVAL = 256;
+
+    private static final long CHECK_MASK = CHECK_INTERVAL - 1;
+    private static final SearchBudget UNLIMITED = new SearchBudget(Long.MAX_VALUE, false, 0, null);
+
+    private final long maxExpansions;
+    private final boolean hasDeadline;
+    private final long deadline;
+    private final CancellationToken token;
+
+    private SearchBudget(long maxExpansions, boolean hasDeadline, long deadline, CancellationToken token) {
+        this.maxExpansions = maxExpansions;
+        this.hasDeadline = hasDeadline;
+        this.deadline = deadline;
+        this.token = token;
+    }
+
+    /**
+     * Returns the budget without limits, under which a search always runs to completion.
+     *
+     * @return the unlimited budget
+     */
+    public static SearchBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Returns a copy that stops the search after the given number of node expansions.
+     *
+     * @param expansions the maximum number of expanded nodes, not negative
+     * @return the new budget
+     * @throws IllegalArgumentException if the number is negative
+     */
+    public SearchBudget withMaxExpansions(long expansions) {
+        if (expansions < 0) {
+            throw new IllegalArgumentException("Invalid expansion limit: " + expansions);
+        }
+        return new SearchBudget(expansions, hasDeadline, deadline, token);
+    }
+
+    /**
+     * Returns a copy that stops the search once the given time has passed from now. The clock
+     * starts when this method is called, not when the search starts.
+     *
+     * @param timeout the time the search may take, not negative
+     * @return the new budget
+     * @throws IllegalArgumentException if the timeout is negative
+     */
+    public SearchBudget withTimeout(Duration timeout) {
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("Invalid timeout: " + timeout);
+        }
+        long nanos = timeout.toNanos();
+        return new SearchBudget(maxExpansions, true, System.nanoTime() + nanos, token);
+    }
+
+    /**
+     * Returns a copy that stops the search when the token is cancelled.
+     *
+     * @param cancellation the token to poll
+     * @return the new budget
+     */
+    public SearchBudget withCancellation(CancellationToken cancellation) {
+        return new SearchBudget(maxExpansions, hasDeadline, deadline, cancellation);
+    }
+
+    /**
+     * Checks whether a search that has expanded the given number of nodes may expand one more.
+     *
+     * @param expansions the number of nodes expanded so far
+     * @return the reason to stop, or {@code null} if the search may go on
+     */
+    public SearchStatus exceeded(long expansions) {
+        if (expansions >= maxExpansions) {
+            return SearchStatus.EXPANSIONS_EXCEEDED;
+        }
+        if ((expansions & CHECK_MASK) != 0) {
+            return null;
+        }
+        if (token != null && token.isCancelled()) {
+            return SearchStatus.CANCELLED;
+        }
+        return hasDeadline && System.nanoTime() - deadline >= 0 ? SearchStatus.TIMED_OUT : null;
+    }
+}
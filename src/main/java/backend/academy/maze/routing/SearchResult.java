@@ -0,0 +1,63 @@
+package backend.academy.maze.routing;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The outcome of a budgeted search: its {@link SearchStatus}, a path and the number of nodes the
+ * search expanded.
+ *
+ * <p>When the path was found, it is the shortest path. When the budget ran out, it is the best
+ * partial path: the path from the start to the expanded node closest to the end by Manhattan
+ * distance, which a caller can show as progress or use to resume. Otherwise it is empty.</p>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SearchResult {
+    private final SearchStatus status; // How the search ended
+    private final CompactPath path;     // The full, partial or empty path
+    private final long expansions;      // The number of expanded nodes
+
+    /**
+     * Creates the result of a search that reached the end.
+     *
+     * @param path the path from start to end
+     * @param expansions the number of expanded nodes
+     * @return the result
+     */
+    public static SearchResult found(CompactPath path, long expansions) {
+        return new SearchResult(SearchStatus.FOUND, path, expansions);
+    }
+
+    /**
+     * Creates the result of a search that exhausted the reachable part of the graph.
+     *
+     * @param expansions the number of expanded nodes
+     * @return the result
+     */
+    public static SearchResult notFound(long expansions) {
+        return new SearchResult(SearchStatus.NOT_FOUND, CompactPath.empty(), expansions);
+    }
+
+    /**
+     * Creates the result of a search stopped by its budget.
+     *
+     * @param status the exceeded limit
+     * @param partial the best partial path
+     * @param expansions the number of expanded nodes
+     * @return the result
+     */
+    public static SearchResult exceeded(SearchStatus status, CompactPath partial, long expansions) {
+        return new SearchResult(status, partial, expansions);
+    }
+
+    /**
+     * Checks whether the search reached the end.
+     *
+     * @return {@code true} if the path is complete
+     */
+    public boolean isFound() {
+        return status == SearchStatus.FOUND;
+    }
+}
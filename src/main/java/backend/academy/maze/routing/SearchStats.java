@@ -0,0 +1,159 @@
+package backend.academy.maze.routing;
+
+import java.util.Locale;
+
+/**
+ * Counters describing the work of path searches, filled in by a {@link Pathfinder} when one is
+ * passed to {@link Pathfinder#findPath(backend.academy.maze.graph.MazeGraph,
+ * backend.academy.maze.graph.Point, backend.academy.maze.graph.Point, SearchBudget, SearchStats)}.
+ *
+ * <p>Collection is opt-in and cheap: a search counts in local variables and records them once,
+ * when it ends, so the hot loop pays a few register increments and no shared writes. Passing a
+ * fresh instance gives the statistics of one query; passing the same instance to many queries,
+ * from any number of threads, or merging instances with {@link #add(SearchStats)} aggregates them.
+ * Counts are summed and the peak open-set size is the largest over all queries; {@link #snapshot()}
+ * reads all of them at one point in time.</p>
+ */
+public class SearchStats {
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private long queries;      // Number of recorded searches
+    private long expansions;   // Nodes taken from the open set and expanded
+    private long edgesRelaxed; // Edges examined for relaxation
+    private long heapPushes;   // Entries added to the open set
+    private long heapPops;     // Entries removed from the open set, stale ones included
+    private long stalePops;    // Entries removed for nodes that were already expanded
+    private long peakOpenSet;  // Largest size of the open set
+    private long wallNanos;    // Time spent in the searches
+
+    /**
+     * Returns the number of recorded searches.
+     *
+     * @return the number of searches
+     */
+    public synchronized long queries() {
+        return queries;
+    }
+
+    /**
+     * Returns the number of expanded nodes.
+     *
+     * @return the number of expansions
+     */
+    public synchronized long expansions() {
+        return expansions;
+    }
+
+    /**
+     * Returns the number of edges examined for relaxation, whether or not they lowered a cost.
+     *
+     * @return the number of relaxed edges
+     */
+    public synchronized long edgesRelaxed() {
+        return edgesRelaxed;
+    }
+
+    /**
+     * Returns the number of entries added to the open set.
+     *
+     * @return the number of pushes
+     */
+    public synchronized long heapPushes() {
+        return heapPushes;
+    }
+
+    /**
+     * Returns the number of entries removed from the open set, stale ones included.
+     *
+     * @return the number of pops
+     */
+    public synchronized long heapPops() {
+        return heapPops;
+    }
+
+    /**
+     * Returns the number of entries removed for nodes that were already expanded.
+     *
+     * @return the number of stale pops
+     */
+    public synchronized long stalePops() {
+        return stalePops;
+    }
+
+    /**
+     * Returns the largest size of the open set.
+     *
+     * @return the peak open-set size
+     */
+    public synchronized long peakOpenSet() {
+        return peakOpenSet;
+    }
+
+    /**
+     * Returns the time spent in the searches.
+     *
+     * @return the wall time in nanoseconds
+     */
+    public synchronized long wallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * Adds the counters of one search.
+     */
+    synchronized void count(long expanded, long relaxed, long pushes, long pops, long stale, long peak,
+        long nanos) {
+        queries++;
+        expansions += expanded;
+        edgesRelaxed += relaxed;
+        heapPushes += pushes;
+        heapPops += pops;
+        stalePops += stale;
+        peakOpenSet = Math.max(peakOpenSet, peak);
+        wallNanos += nanos;
+    }
+
+    /**
+     * Adds all counters of another instance to this one.
+     *
+     * @param other the statistics to add
+     */
+    public void add(SearchStats other) {
+        SearchStats copy = other.snapshot();
+        synchronized (this) {
+            queries += copy.queries;
+            expansions += copy.expansions;
+            edgesRelaxed += copy.edgesRelaxed;
+            heapPushes += copy.heapPushes;
+            heapPops += copy.heapPops;
+            stalePops += copy.stalePops;
+            peakOpenSet = Math.max(peakOpenSet, copy.peakOpenSet);
+            wallNanos += copy.wallNanos;
+        }
+    }
+
+    /**
+     * Returns a consistent copy of the counters.
+     *
+     * @return a new instance with the current counters
+     */
+    public synchronized SearchStats snapshot() {
+        SearchStats copy = new SearchStats();
+        copy.queries = queries;
+        copy.expansions = expansions;
+        copy.edgesRelaxed = edgesRelaxed;
+        copy.heapPushes = heapPushes;
+        copy.heapPops = heapPops;
+        copy.stalePops = stalePops;
+        copy.peakOpenSet = peakOpenSet;
+        copy.wallNanos = wallNanos;
+        return copy;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format(Locale.ROOT,
+            "%d expanded, %d relaxed, %d pushes, %d pops (%d stale), peak open %d, %.3f ms",
+            expansions, edgesRelaxed, heapPushes, heapPops, stalePops, peakOpenSet, wallNanos / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,22 @@
+package backend.academy.maze.routing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * How a budgeted search ended.
+ *
+ * @see SearchResult
+ */
+@Getter
+@AllArgsConstructor
+public enum SearchStatus {
+    FOUND("found", false),
+    NOT_FOUND("not_found", false),
+    EXPANSIONS_EXCEEDED("expansions_exceeded", true),
+    TIMED_OUT("timed_out", true),
+    CANCELLED("cancelled", true);
+
+    private final String label;           // Name used in reports and API responses
+    private final boolean budgetExceeded; // Whether the search was stopped before it could finish
+}
@@ -26,11 +26,22 @@ public class PathfinderFactory {
      * @throws IllegalArgumentException if the choice is out of range
      */
     public static Pathfinder getPathfinder(int choice) {
+        return getPathfinderType(choice).pathfinder();
+    }
+
+    /**
+     * Returns the {@link PathfinderType} based on the user's choice.
+     *
+     * @param choice the user input (e.g., 1 for Dijkstra, 2 for A*)
+     * @return the selected PathfinderType
+     * @throws IllegalArgumentException if the choice is out of range
+     */
+    public static PathfinderType getPathfinderType(int choice) {
         PathfinderType[] types = PathfinderType.values();
         if (choice < 1 || choice > types.length) {
             throw new IllegalArgumentException("Invalid pathfinder choice: " + choice);
         }
-        return types[choice - 1].pathfinder();
+        return types[choice - 1];
     }
 
     /**
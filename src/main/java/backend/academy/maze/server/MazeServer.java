@@ -0,0 +1,434 @@
+package backend.academy.maze.server;
+
+import backend.academy.maze.codec.MazeJsonCodec;
+import backend.academy.maze.codec.RowEncoding;
+import backend.academy.maze.export.MazeImageExporter;
+import backend.academy.maze.export.MazeSvgExporter;
+import backend.academy.maze.generation.MazeGeneratorType;
+import backend.academy.maze.generation.factory.MazeGeneratorFactory;
+import backend.academy.maze.graph.MazeGraph;
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Maze;
+import backend.academy.maze.model.utils.MazeUtils;
+import backend.academy.maze.routing.CompactPath;
+import backend.academy.maze.routing.EndpointSelector;
+import backend.academy.maze.routing.Endpoints;
+import backend.academy.maze.routing.PathfinderType;
+import backend.academy.maze.routing.SearchBudget;
+import backend.academy.maze.routing.SearchResult;
+import backend.academy.maze.routing.factory.PathfinderFactory;
+import backend.academy.maze.terrain.NoiseTerrain;
+import backend.academy.maze.ui.MazeRenderer;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An HTTP front end to the maze pipeline on the JDK's built-in {@link HttpServer}. Every exchange
+ * runs on its own virtual thread, so thousands of concurrent requests park cheaply on I/O instead
+ * of exhausting a fixed pool; the server is stateless and a maze is identified by its parameters.
+ *
+ * <p>Endpoints, all {@code GET}:</p>
+ * <ul>
+ *     <li>{@code /maze} generates a maze;</li>
+ *     <li>{@code /solve} generates the same maze and finds a path through it.</li>
+ * </ul>
+ *
+ * <p>Maze parameters: {@code algorithm} (a {@link MazeGeneratorType} name or menu number),
+ * {@code height}, {@code width}, {@code seed} (random when omitted, returned in the
+ * {@code X-Maze-Seed} header), {@code special} (fraction of roads turned into special cells) and
+ * {@code clustered} ({@code true} for noise terrain). {@code /solve} also takes {@code pathfinder}
+ * (a {@link PathfinderType} name or menu number) and either {@code start} and {@code end} as
+ * {@code x,y} or {@code endpoints} ({@code hardest} or {@code sample}), and may bound the search
+ * with {@code timeout} in milliseconds (at most {@value #MAX_SEARCH_MILLIS}, the default) and
+ * {@code expansions}; a search that runs out of budget answers with its best partial path and a
+ * {@code status} naming the exceeded limit. The {@code format}
+ * parameter selects {@code json} (default), {@code text}, {@code png} or {@code svg}; JSON mazes
+ * take an {@code encoding} of {@code symbols} (default) or {@code packed}.</p>
+ *
+ * <p>Responses are streamed with chunked transfer encoding straight from the grid; JSON is
+ * written with {@link MazeJsonCodec} on Jackson's streaming generator.</p>
+ *
+ * <p>Virtual threads do not bound the work in flight, so admission is bounded by the total number
+ * of cells of the mazes being built or sent. A request that does not fit in what is left is answered
+ * with {@code 503 Service Unavailable} and a {@code Retry-After} header instead of waiting.</p>
+ */
+@Slf4j
+public class MazeServer implements AutoCloseable {
+
+    /**
+     * Default limit on the number of cells of a requested maze.
+     */
+    public static final long DEFAULT_MAX_CELLS = 4_194_304;
+
+    /**
+     * Default limit on the total number of cells of the mazes served at the same time.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT_CELLS = 16 * (int) DEFAULT_MAX_CELLS;
+
+    /**
+     * Limit on the time of a single path search, in milliseconds, so one query cannot hold a
+     * core for long.
+     */
+    public static final int MAX_SEARCH_MILLIS = 2000;
+
+    private static final int BACKLOG = 4096;
+    private static final int DEFAULT_SIZE = 41;
+    private static final String JSON = "json";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String SEED_HEADER = "X-Maze-Seed";
+    private static final String SEED = "seed";
+    private static final String HEIGHT = "height";
+    private static final String WIDTH = "width";
+    private static final String START = "start";
+    private static final String END = "end";
+    private static final String ENDPOINTS = "endpoints";
+    private static final String HARDEST = "hardest";
+    private static final String EXPANSIONS = "expansions";
+    private static final String PNG = "png";
+    private static final String SVG = "svg";
+    private static final String JSON_TYPE = "application/json";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long maxCells;
+    private final Semaphore inFlightCells;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final EndpointSelector endpointSelector = new EndpointSelector();
+
+    /**
+     * Creates a server bound to the given address with the default size limit. The server does
+     * not accept requests until {@link #start()} is called.
+     *
+     * @param address the address to bind; port {@code 0} picks a free port
+     * @throws IOException if the address cannot be bound
+     */
+    public MazeServer(InetSocketAddress address) throws IOException {
+        this(address, DEFAULT_MAX_CELLS);
+    }
+
+    /**
+     * Creates a server bound to the given address with the default in-flight limit, raised to
+     * one maze of the largest size if that is bigger.
+     *
+     * @param address the address to bind; port {@code 0} picks a free port
+     * @param maxCells the largest number of cells a requested maze may have
+     * @throws IOException if the address cannot be bound
+     */
+    public MazeServer(InetSocketAddress address, long maxCells) throws IOException {
+        this(address, maxCells, (int) Math.min(Integer.MAX_VALUE, Math.max(maxCells, DEFAULT_MAX_IN_FLIGHT_CELLS)));
+    }
+
+    /**
+     * Creates a server bound to the given address.
+     *
+     * @param address the address to bind; port {@code 0} picks a free port
+     * @param maxCells the largest number of cells a requested maze may have
+     * @param maxInFlightCells the largest total number of cells of the mazes served at the same time
+     * @throws IOException if the address cannot be bound
+     * @throws IllegalArgumentException if a single maze of the largest size would not be admitted
+     */
+    public MazeServer(InetSocketAddress address, long maxCells, int maxInFlightCells) throws IOException {
+        this(address, checkLimits(maxCells, maxInFlightCells), new Semaphore(maxInFlightCells));
+    }
+
+    /**
+     * Creates a server that admits requests against the given permits, one permit per cell.
+     */
+    MazeServer(InetSocketAddress address, long maxCells, Semaphore inFlightCells) throws IOException {
+        this.maxCells = maxCells;
+        this.inFlightCells = inFlightCells;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(address, BACKLOG);
+        server.setExecutor(executor);
+        server.createContext("/maze", exchange -> handle(exchange, false));
+        server.createContext("/solve", exchange -> handle(exchange, true));
+    }
+
+    private static long checkLimits(long maxCells, int maxInFlightCells) {
+        if (maxCells < 1 || maxCells > maxInFlightCells) {
+            throw new IllegalArgumentException(
+                "Invalid server limits: " + maxCells + " cells per maze, " + maxInFlightCells + " in flight");
+        }
+        return maxCells;
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     *
+     * @return the local port
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, closes open exchanges and waits for running handlers to finish.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange, boolean solve) {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, HttpURLConnection.HTTP_BAD_METHOD, "Only GET is supported");
+                return;
+            }
+            try {
+                QueryParameters query = new QueryParameters(exchange.getRequestURI().getRawQuery());
+                serveAdmitted(exchange, query, solve);
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, e.getMessage());
+            }
+        } catch (IOException e) {
+            // The client went away; there is nobody left to answer
+            log.debug("Failed to answer {}", exchange.getRequestURI(), e);
+        }
+    }
+
+    /**
+     * Serves the request if its maze fits in the in-flight limit, and answers 503 otherwise.
+     */
+    private void serveAdmitted(HttpExchange exchange, QueryParameters query, boolean solve) throws IOException {
+        int cells = mazeCells(query);
+        if (!inFlightCells.tryAcquire(cells)) {
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            sendError(exchange, HttpURLConnection.HTTP_UNAVAILABLE, "Too many mazes in progress, retry later");
+        } else {
+            try {
+                if (solve) {
+                    serveSolve(exchange, query);
+                } else {
+                    serveMaze(exchange, query);
+                }
+            } finally {
+                inFlightCells.release(cells);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cells of the requested maze after checking its size.
+     */
+    private int mazeCells(QueryParameters query) {
+        int height = query.integer(HEIGHT, DEFAULT_SIZE);
+        int width = query.integer(WIDTH, DEFAULT_SIZE);
+        if (height <= 0 || width <= 0 || (long) height * width > maxCells) {
+            throw new IllegalArgumentException("Invalid maze size: " + height + "x" + width
+                + ", at most " + maxCells + " cells are allowed");
+        }
+        return height * width;
+    }
+
+    private void serveMaze(HttpExchange exchange, QueryParameters query) throws IOException {
+        long seed = seed(query);
+        String format = format(query);
+        RowEncoding encoding = RowEncoding.of(query.string("encoding", RowEncoding.SYMBOLS.label()));
+        Maze maze = buildMaze(query, new SplittableRandom(seed));
+
+        sendHeaders(exchange, format, seed);
+        try (OutputStream body = exchange.getResponseBody()) {
+            if (JSON.equals(format)) {
+                try (JsonGenerator json = jsonFactory.createGenerator(body, JsonEncoding.UTF8)) {
+                    json.writeStartObject();
+                    json.writeNumberField(SEED, seed);
+                    MazeJsonCodec.writeMazeFields(json, maze, encoding);
+                    json.writeEndObject();
+                }
+            } else {
+                writeDrawing(body, format, maze, List.of(), null, null);
+            }
+        }
+    }
+
+    private void serveSolve(HttpExchange exchange, QueryParameters query) throws IOException {
+        long seed = seed(query);
+        String format = format(query);
+        SplittableRandom random = new SplittableRandom(seed);
+        Maze maze = buildMaze(query, random);
+        PathfinderType pathfinder = pathfinder(query.string("pathfinder", PathfinderType.DIJKSTRA.name()));
+
+        Point start = query.point(START);
+        Point end = query.point(END);
+        if (start == null || end == null) {
+            Endpoints endpoints = switch (query.string(ENDPOINTS, HARDEST)) {
+                case HARDEST -> endpointSelector.hardest(maze);
+                case "sample" -> endpointSelector.sample(maze, EndpointSelector.DEFAULT_PERCENTILE, random);
+                default -> throw new IllegalArgumentException("Unknown endpoints: " + query.string(ENDPOINTS, ""));
+            };
+            start = endpoints.start();
+            end = endpoints.end();
+        } else {
+            checkInside(maze, start);
+            checkInside(maze, end);
+        }
+
+        MazeGraph graph = new MazeGraph(maze);
+        graph.buildGraph();
+        SearchBudget budget = budget(query); // The clock starts with the search
+        SearchResult result = pathfinder.pathfinder().findPath(graph, start, end, budget);
+        CompactPath path = result.path();
+
+        sendHeaders(exchange, format, seed);
+        try (OutputStream body = exchange.getResponseBody()) {
+            if (JSON.equals(format)) {
+                try (JsonGenerator json = jsonFactory.createGenerator(body, JsonEncoding.UTF8)) {
+                    json.writeStartObject();
+                    json.writeNumberField(SEED, seed);
+                    json.writeFieldName(START);
+                    MazeJsonCodec.writePoint(json, start);
+                    json.writeFieldName(END);
+                    MazeJsonCodec.writePoint(json, end);
+                    json.writeBooleanField("found", result.isFound());
+                    json.writeStringField("status", result.status().label());
+                    json.writeNumberField(EXPANSIONS, result.expansions());
+                    json.writeNumberField("length", path.length());
+                    json.writeFieldName("path");
+                    MazeJsonCodec.writePath(json, path);
+                    json.writeEndObject();
+                }
+            } else {
+                writeDrawing(body, format, maze, path.toList(), start, end);
+            }
+        }
+    }
+
+    private static SearchBudget budget(QueryParameters query) {
+        int timeout = query.integer("timeout", MAX_SEARCH_MILLIS);
+        if (timeout < 0 || timeout > MAX_SEARCH_MILLIS) {
+            throw new IllegalArgumentException("Invalid timeout: " + timeout + " ms, at most "
+                + MAX_SEARCH_MILLIS + " ms are allowed");
+        }
+        SearchBudget budget = SearchBudget.unlimited().withTimeout(Duration.ofMillis(timeout));
+        Long expansions = query.longValue(EXPANSIONS);
+        return expansions == null ? budget : budget.withMaxExpansions(expansions);
+    }
+
+    private Maze buildMaze(QueryParameters query, SplittableRandom random) {
+        MazeGeneratorType type = generatorType(
+            query.string("algorithm", MazeGeneratorType.RECURSIVE_BACKTRACKER.name()));
+        // The size has been checked on admission
+        int height = query.integer(HEIGHT, DEFAULT_SIZE);
+        int width = query.integer(WIDTH, DEFAULT_SIZE);
+        double special = query.decimal("special", 0);
+        if (special < 0 || special > 1) {
+            throw new IllegalArgumentException("Invalid special cell ratio: " + special);
+        }
+
+        Maze maze = type.generator().generate(height, width, random);
+        if (special > 0) {
+            if (Boolean.parseBoolean(query.string("clustered", "false"))) {
+                new NoiseTerrain(random.nextLong(), special).apply(maze);
+            } else {
+                MazeUtils.addSpecialCells(maze, special, random);
+            }
+        }
+        return maze;
+    }
+
+    private void writeDrawing(OutputStream body, String format, Maze maze, List<Point> path, Point start, Point end)
+            throws IOException {
+        if (PNG.equals(format)) {
+            new MazeImageExporter().export(maze.maze(), path, start, end, body);
+            return;
+        }
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8))) {
+            if (SVG.equals(format)) {
+                new MazeSvgExporter().export(maze.maze(), path, start, end, writer);
+            } else {
+                writer.append(new MazeRenderer().render(maze.maze(), path, start, end));
+            }
+        }
+    }
+
+    private static void sendHeaders(HttpExchange exchange, String format, long seed) throws IOException {
+        String contentType = switch (format) {
+            case JSON -> JSON_TYPE;
+            case PNG -> "image/png";
+            case SVG -> "image/svg+xml";
+            default -> "text/plain; charset=utf-8";
+        };
+        exchange.getResponseHeaders().set(CONTENT_TYPE, contentType);
+        exchange.getResponseHeaders().set(SEED_HEADER, Long.toString(seed));
+        // A length of 0 selects chunked encoding, so the body is streamed as it is written
+        exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, 0);
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        exchange.getResponseHeaders().set(CONTENT_TYPE, JSON_TYPE);
+        exchange.sendResponseHeaders(status, 0);
+        try (JsonGenerator json = jsonFactory.createGenerator(exchange.getResponseBody(), JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeStringField("error", message);
+            json.writeEndObject();
+        }
+    }
+
+    private static long seed(QueryParameters query) {
+        Long seed = query.longValue(SEED);
+        return seed != null ? seed : ThreadLocalRandom.current().nextLong();
+    }
+
+    private static String format(QueryParameters query) {
+        String format = query.string("format", JSON).toLowerCase(Locale.ROOT);
+        return switch (format) {
+            case JSON, "text", PNG, SVG -> format;
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+    }
+
+    private static void checkInside(Maze maze, Point point) {
+        if (point.x() < 0 || point.y() < 0 || point.x() >= maze.width() || point.y() >= maze.height()) {
+            throw new IllegalArgumentException("Point outside the maze: " + point.x() + "," + point.y());
+        }
+    }
+
+    /**
+     * Resolves a generator given by name or by its number in the game menu.
+     */
+    private static MazeGeneratorType generatorType(String value) {
+        if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+            return MazeGeneratorFactory.getGeneratorType(Integer.parseInt(value));
+        }
+        return MazeGeneratorType.valueOf(value.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Resolves a pathfinder given by name or by its number in the game menu.
+     */
+    private static PathfinderType pathfinder(String value) {
+        if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+            return PathfinderFactory.getPathfinderType(Integer.parseInt(value));
+        }
+        return PathfinderType.valueOf(value.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,135 @@
+package backend.academy.maze.server;
+
+import backend.academy.maze.graph.Point;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The decoded parameters of a request's query string, with typed accessors. Every accessor
+ * throws {@link IllegalArgumentException} naming the parameter when a value cannot be parsed,
+ * which the server turns into a {@code 400 Bad Request}.
+ */
+public class QueryParameters {
+    private static final String INVALID = "Invalid value of ";
+
+    private final Map<String, String> values = new HashMap<>();
+
+    /**
+     * Parses a raw query string.
+     *
+     * @param rawQuery the query string without the leading {@code ?}, or {@code null}
+     * @throws IllegalArgumentException if a name or value has a malformed percent-escape
+     */
+    public QueryParameters(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            try {
+                values.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Malformed query parameter: " + pair, e);
+            }
+        }
+    }
+
+    /**
+     * Returns a parameter as a string.
+     *
+     * @param name the parameter name
+     * @param defaultValue the value if the parameter is absent
+     * @return the value of the parameter
+     */
+    public String string(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    /**
+     * Returns a parameter as an int.
+     *
+     * @param name the parameter name
+     * @param defaultValue the value if the parameter is absent
+     * @return the value of the parameter
+     * @throws IllegalArgumentException if the value is not an integer
+     */
+    public int integer(String name, int defaultValue) {
+        String value = values.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID + name + ": " + value, e);
+        }
+    }
+
+    /**
+     * Returns a parameter as a long, or {@code null} if it is absent.
+     *
+     * @param name the parameter name
+     * @return the value of the parameter, or {@code null}
+     * @throws IllegalArgumentException if the value is not an integer
+     */
+    public Long longValue(String name) {
+        String value = values.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID + name + ": " + value, e);
+        }
+    }
+
+    /**
+     * Returns a parameter as a double.
+     *
+     * @param name the parameter name
+     * @param defaultValue the value if the parameter is absent
+     * @return the value of the parameter
+     * @throws IllegalArgumentException if the value is not a number
+     */
+    public double decimal(String name, double defaultValue) {
+        String value = values.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID + name + ": " + value, e);
+        }
+    }
+
+    /**
+     * Returns a parameter of the form {@code x,y} as a point, or {@code null} if it is absent.
+     *
+     * @param name the parameter name
+     * @return the point, or {@code null}
+     * @throws IllegalArgumentException if the value is not two comma-separated integers
+     */
+    public Point point(String name) {
+        String value = values.get(name);
+        if (value == null) {
+            return null;
+        }
+        int comma = value.indexOf(',');
+        try {
+            if (comma < 0) {
+                throw new NumberFormatException(value);
+            }
+            return new Point(Integer.parseInt(value.substring(0, comma).trim()),
+                Integer.parseInt(value.substring(comma + 1).trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID + name + ": " + value, e);
+        }
+    }
+}
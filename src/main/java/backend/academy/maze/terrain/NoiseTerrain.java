@@ -0,0 +1,133 @@
+package backend.academy.maze.terrain;
+
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * A decoration stage that turns road cells into special cells according to a seeded
+ * {@link ValueNoise} field, so special cells come in clusters instead of being scattered
+ * uniformly like {@link backend.academy.maze.model.utils.MazeUtils#addSpecialCells}.
+ *
+ * <p>Every special cell type (all types except WALL and ROAD) owns a band of noise values:
+ * type {@code i} of {@code n} is centered on {@code (i + 0.5) / n}. Roads whose noise value falls
+ * inside a band become that type. Fractal noise values are far from uniform, so raw values are first
+ * mapped to their rank among a grid of samples taken over the maze; the ranks are uniform, and the
+ * total width of the bands is then the fraction of roads converted. Rows are decorated in bands
+ * handled in parallel.</p>
+ */
+public class NoiseTerrain {
+
+    /**
+     * Default size of the terrain features, in cells.
+     */
+    public static final double DEFAULT_SCALE = 16;
+
+    private static final int BAND_ROWS = 64;
+    private static final double BAND_CENTER = 0.5;
+    private static final int CALIBRATION_SAMPLES = 4096;
+
+    private final ValueNoise noise;
+    private final double scale;
+    private final double coverage;
+    private final Cell[] specialCellTypes;
+
+    /**
+     * Creates a terrain stage with the default feature size.
+     *
+     * @param seed the seed of the noise field
+     * @param coverage the fraction of roads to convert, in {@code [0, 1]}
+     */
+    public NoiseTerrain(long seed, double coverage) {
+        this(seed, DEFAULT_SCALE, coverage);
+    }
+
+    /**
+     * Creates a terrain stage.
+     *
+     * @param seed the seed of the noise field
+     * @param scale the size of the terrain features, in cells
+     * @param coverage the fraction of roads to convert, in {@code [0, 1]}
+     * @throws IllegalArgumentException if the scale is not positive or the coverage is out of range
+     */
+    public NoiseTerrain(long seed, double scale, double coverage) {
+        if (scale <= 0) {
+            throw new IllegalArgumentException("Invalid terrain scale: " + scale);
+        }
+        if (coverage < 0 || coverage > 1) {
+            throw new IllegalArgumentException("Invalid terrain coverage: " + coverage);
+        }
+        this.noise = new ValueNoise(seed);
+        this.scale = scale;
+        this.coverage = coverage;
+        this.specialCellTypes = Arrays.stream(Cell.values())
+            .filter(cell -> cell != Cell.WALL && cell != Cell.ROAD)
+            .toArray(Cell[]::new);
+    }
+
+    /**
+     * Converts the roads of the maze in place according to the noise field.
+     *
+     * @param maze the maze to decorate
+     */
+    public void apply(Maze maze) {
+        Cell[][] cellTypes = maze.maze();
+        double[] samples = calibrate(maze);
+        int bands = (maze.width() + BAND_ROWS - 1) / BAND_ROWS;
+
+        IntStream.range(0, bands).parallel().forEach(band -> {
+            int end = Math.min(maze.width(), (band + 1) * BAND_ROWS);
+            for (int x = band * BAND_ROWS; x < end; x++) {
+                decorateRow(cellTypes[x], x, samples);
+            }
+        });
+    }
+
+    /**
+     * Samples the noise field on a regular grid spanning the maze and returns the sorted values.
+     */
+    private double[] calibrate(Maze maze) {
+        double cells = (double) maze.width() * maze.height();
+        int stride = Math.max(1, (int) Math.ceil(Math.sqrt(cells / CALIBRATION_SAMPLES)));
+        int rows = (maze.width() + stride - 1) / stride;
+        int columns = (maze.height() + stride - 1) / stride;
+
+        double[] samples = new double[rows * columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                samples[i * columns + j] = noise.sample(i * stride / scale, j * stride / scale);
+            }
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    /**
+     * Returns the rank of the value among the sorted samples, as a fraction in {@code [0, 1)}.
+     */
+    private static double rank(double[] samples, double value) {
+        int index = Arrays.binarySearch(samples, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return index / (samples.length + 1.0);
+    }
+
+    private void decorateRow(Cell[] row, int x, double[] samples) {
+        int types = specialCellTypes.length;
+        // Ranks are scaled so that every band is one unit wide
+        double halfWidth = coverage / 2;
+
+        for (int y = 0; y < row.length; y++) {
+            if (row[y] != Cell.ROAD) {
+                continue;
+            }
+            double value = rank(samples, noise.sample(x / scale, y / scale)) * types;
+            int type = (int) value;
+            if (Math.abs(value - type - BAND_CENTER) < halfWidth) {
+                row[y] = specialCellTypes[type];
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package backend.academy.maze.terrain;
+
+/**
+ * Seeded two-dimensional fractal value noise. Random values are attached to the points of an
+ * integer lattice by hashing their coordinates with the seed, and are blended with smoothstep
+ * interpolation; several octaves of increasing frequency are summed. The noise holds no mutable
+ * state, so one instance can be sampled from many threads at once.
+ */
+public final class ValueNoise {
+    private static final int OCTAVES = 3;
+    private static final double PERSISTENCE = 0.5;
+    private static final double LACUNARITY = 2.0;
+
+    // Constants of the SplitMix64 finalizer
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long MIX_1 = 0xBF58476D1CE4E5B9L;
+    private static final long MIX_2 = 0x94D049BB133111EBL;
+    private static final int SHIFT_1 = 30;
+    private static final int SHIFT_2 = 27;
+    private static final int SHIFT_3 = 31;
+    private static final int MANTISSA_SHIFT = 11;
+    private static final double UNIT = 0x1.0p-53;
+    private static final int Y_SHIFT = 32;
+    private static final double SMOOTHSTEP_A = 3.0;
+
+    private final long seed;
+    private final double normalization;
+
+    /**
+     * Creates the noise for the given seed.
+     *
+     * @param seed the seed of the noise field
+     */
+    public ValueNoise(long seed) {
+        this.seed = seed;
+        double amplitude = 1;
+        double total = 0;
+        for (int octave = 0; octave < OCTAVES; octave++) {
+            total += amplitude;
+            amplitude *= PERSISTENCE;
+        }
+        this.normalization = total;
+    }
+
+    /**
+     * Samples the noise at the given point.
+     *
+     * @param x the first coordinate, in lattice units
+     * @param y the second coordinate, in lattice units
+     * @return the noise value in {@code [0, 1)}
+     */
+    public double sample(double x, double y) {
+        double sum = 0;
+        double amplitude = 1;
+        double frequency = 1;
+        for (int octave = 0; octave < OCTAVES; octave++) {
+            sum += amplitude * octave(x * frequency, y * frequency, octave);
+            amplitude *= PERSISTENCE;
+            frequency *= LACUNARITY;
+        }
+        return sum / normalization;
+    }
+
+    private double octave(double x, double y, int octave) {
+        long x0 = (long) Math.floor(x);
+        long y0 = (long) Math.floor(y);
+        double tx = smoothstep(x - x0);
+        double ty = smoothstep(y - y0);
+
+        double top = lerp(lattice(x0, y0, octave), lattice(x0 + 1, y0, octave), tx);
+        double bottom = lerp(lattice(x0, y0 + 1, octave), lattice(x0 + 1, y0 + 1, octave), tx);
+        return lerp(top, bottom, ty);
+    }
+
+    /**
+     * Returns the random value in {@code [0, 1)} attached to a lattice point.
+     */
+    private double lattice(long x, long y, int octave) {
+        long z = seed + GOLDEN_GAMMA * (octave + 1) + x + (y << Y_SHIFT);
+        z = (z ^ (z >>> SHIFT_1)) * MIX_1;
+        z = (z ^ (z >>> SHIFT_2)) * MIX_2;
+        z ^= z >>> SHIFT_3;
+        return (z >>> MANTISSA_SHIFT) * UNIT;
+    }
+
+    private static double smoothstep(double t) {
+        return t * t * (SMOOTHSTEP_A - 2 * t);
+    }
+
+    private static double lerp(double a, double b, double t) {
+        return a + (b - a) * t;
+    }
+}
@@ -1,6 +1,8 @@
 package backend.academy.maze.ui;
 
+import backend.academy.maze.game.utils.ConsoleSizeUtil;
 import backend.academy.maze.graph.Point;
+import backend.academy.maze.jfr.RenderEvent;
 import backend.academy.maze.model.Cell;
 import backend.academy.maze.model.PathSymbol;
 import java.io.BufferedReader;
@@ -9,22 +11,46 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.jline.terminal.Terminal;
 
 /**
  * Console-based implementation of the UI interface.
  * Provides methods for interacting with the user through the console.
+ * Everything shown to the user is written straight to standard output through a
+ * {@link TerminalOutput}; logging is used for diagnostics only. Mazes are shown through a
+ * {@link DifferentialDisplay}, so showing the same maze again only redraws the changed cells;
+ * mazes larger than the screen are shown scaled down through a {@link MazeViewport}.
  */
 @Slf4j
 public class ConsoleUI implements UI {
 
     private final BufferedReader reader;
+    private final MazeRenderer renderer = new MazeRenderer();
+    private final Terminal terminal;
+    private final TerminalOutput output;
+    private final DifferentialDisplay display;
     private static final String DIGIT_PATTERN = "\\d+";
     private static final char DASH = '-';
     private static final char SPACE = ' ';
     private static final char INDENT = '\n';
+    private static final int RESERVED_LINES = 8; // Screen lines kept below a maze for messages and input
+    private static final String TERMINAL_FORMAT = "terminal"; // The format of render events for the screen
 
     /** Initializes the console reader for reading user input. */
     public ConsoleUI() {
+        this(ConsoleSizeUtil.getTerminal(), new TerminalOutput());
+    }
+
+    /**
+     * Creates a console UI on the given terminal and output; input is still read from standard input.
+     *
+     * @param terminal the terminal whose size and capabilities are used, or {@code null} if there is none
+     * @param output the output everything shown to the user is written to
+     */
+    ConsoleUI(Terminal terminal, TerminalOutput output) {
+        this.terminal = terminal;
+        this.output = output;
+        this.display = new DifferentialDisplay(terminal, output);
         BufferedReader tempReader = null;
         try {
             tempReader =
@@ -42,38 +68,33 @@ public class ConsoleUI implements UI {
     /** {@inheritDoc} */
     @Override
     public void clearWindow() {
-        try {
-            if (System.getProperty("os.name").toLowerCase().contains("win")) {
-                new ProcessBuilder("cmd", "/c", "cls").inheritIO().start().waitFor();
-            } else {
-                new ProcessBuilder("clear").inheritIO().start().waitFor();
-            }
-        } catch (IOException | InterruptedException e) {
-            log.error("Failed to clear console.", e);
-        }
+        display.clear();
     }
 
     /** {@inheritDoc} */
     @Override
     public void showMessage(CharSequence message) {
-        log.info("Message: {}", message);
+        output.println(message);
+        output.flush();
+        display.noteOutput(message, true);
+        log.debug("Message: {}", message);
     }
 
     /** {@inheritDoc} */
     @Override
     public int readNumberInput() {
-        log.info("Waiting for number input from the user");
+        log.debug("Waiting for number input from the user");
         try {
-            String input = reader.readLine();
+            String input = readLine();
             if (input == null || input.trim().isEmpty()) {
                 return 0;
             }
             input = input.trim();
-            log.info("User number input: {}", input);
+            log.debug("User number input: {}", input);
             if (input.matches(DIGIT_PATTERN) && Integer.parseInt(input) >= 0) {
                 return Integer.parseInt(input);
             } else {
-                log.warn("Invalid number input: {}", input);
+                log.debug("Invalid number input: {}", input);
                 return -1;
             }
         } catch (IOException e) {
@@ -85,21 +106,21 @@ public class ConsoleUI implements UI {
     /** {@inheritDoc} */
     @Override
     public int[] readPointInput() {
-        log.info("Waiting for point input (two numbers for X and Y)");
+        log.debug("Waiting for point input (two numbers for X and Y)");
         try {
-            String input = reader.readLine();
+            String input = readLine();
             if (input == null || input.trim().isEmpty()) {
                 return new int[] {-1, -1};
             }
             input = input.trim();
-            log.info("User point input: {}", input);
+            log.debug("User point input: {}", input);
             String[] parts = input.split("\\s+");
             if (parts.length == 2
                     && parts[0].matches(DIGIT_PATTERN)
                     && parts[1].matches(DIGIT_PATTERN)) {
                 return new int[] {Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
             } else {
-                log.warn("Invalid point input: {}", input);
+                log.debug("Invalid point input: {}", input);
                 return new int[] {-1, -1};
             }
         } catch (IOException e) {
@@ -112,74 +133,80 @@ public class ConsoleUI implements UI {
     @Override
     public void showListMessage(List<String> options) {
         if (options == null || options.isEmpty()) {
-            log.info("No options available.");
+            showMessage("No options available.");
             return;
         }
-        String message = String.join(String.valueOf(INDENT), options);
-        log.info("Options: \n{}", message);
+        showMessage(String.join(String.valueOf(INDENT), options));
     }
 
     /** {@inheritDoc} */
     @Override
     public void showMaze(Cell[][] maze, List<Point> path, Point startPoint, Point endPoint) {
-        StringBuilder mazeOutput = new StringBuilder();
-        for (int i = 0; i < maze.length; i++) {
-            for (int j = 0; j < maze[i].length; j++) {
-                Point currentPoint = new Point(i, j);
-
-                if (currentPoint.equals(startPoint)) {
-                    mazeOutput.append(PathSymbol.START.symbol()).append(SPACE);
-                } else if (currentPoint.equals(endPoint)) {
-                    mazeOutput.append(PathSymbol.END.symbol()).append(SPACE);
-                } else if (path.contains(currentPoint)) {
-                    mazeOutput.append(PathSymbol.PATH.symbol()).append(SPACE);
-                } else {
-                    mazeOutput.append(maze[i][j].symbol()).append(SPACE);
-                }
-            }
-            mazeOutput.append(INDENT);
+        int rows = screenRows();
+        int columns = screenColumns();
+        if (maze.length <= rows && height(maze) <= columns) {
+            RenderEvent event = new RenderEvent();
+            event.begin();
+            display.draw(renderer.frame(maze, path, startPoint, endPoint), maze.length, height(maze));
+            event.finish(TERMINAL_FORMAT, maze.length, height(maze), path.size());
+        } else {
+            MazeViewport viewport = new MazeViewport(maze, rows, columns);
+            viewport.fit();
+            drawViewport(viewport, path, startPoint, endPoint);
         }
-
-        log.info("Displaying maze layout with path:\n{}", mazeOutput);
+        log.debug("Displayed maze with a path of {} points", path.size());
     }
 
     /** {@inheritDoc} */
     @Override
     public void showMaze(Cell[][] maze) {
-        StringBuilder mazeOutput = new StringBuilder();
-        for (int i = 0; i < maze.length; i++) {
-            for (int j = 0; j < maze[i].length; j++) {
-                mazeOutput.append(maze[i][j].symbol()).append(SPACE);
+        showMaze(maze, List.of(), null, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void exploreMaze(Cell[][] maze, List<Point> path, Point startPoint, Point endPoint) {
+        MazeViewport viewport = new MazeViewport(maze, screenRows(), screenColumns());
+        viewport.fit();
+        showMessage("Move with w, a, s and d, zoom with + and -, finish with q.");
+
+        boolean exploring = true;
+        while (exploring) {
+            drawViewport(viewport, path, startPoint, endPoint);
+            String command;
+            try {
+                command = readLine();
+            } catch (IOException e) {
+                log.error("Failed to read navigation input.", e);
+                command = null;
             }
-            mazeOutput.append(INDENT);
+            exploring = command != null && navigate(viewport, command.trim());
         }
-
-        log.info("Displaying maze:\n{}", mazeOutput);
     }
 
     /** {@inheritDoc} */
     @Override
     public double readDoubleInput() {
-        log.info("Waiting for double input from user");
+        log.debug("Waiting for double input from user");
         double number = -1.0;
         boolean validInput = false;
 
         while (!validInput) {
             try {
-                String input = reader.readLine();
+                String input = readLine();
                 if (input == null || input.trim().isEmpty()) {
-                    log.warn("Empty input, asking again");
+                    log.debug("Empty input, asking again");
                     showMessage("Input cannot be empty.");
                     continue;
                 }
 
                 input = input.trim();
-                log.info("User input: {}", input);
+                log.debug("User input: {}", input);
 
                 number = Double.parseDouble(input);
                 validInput = true;
             } catch (NumberFormatException e) {
-                log.warn("Invalid double input: {}", e.getMessage());
+                log.debug("Invalid double input: {}", e.getMessage());
                 showMessage("Invalid input. Please enter a valid number.");
             } catch (IOException e) {
                 log.error("Failed to read double input.", e);
@@ -212,6 +239,68 @@ public class ConsoleUI implements UI {
                     .append(INDENT);
         }
 
-        log.info("Displaying legend:\n{}", legendOutput);
+        output.print(legendOutput);
+        output.flush();
+        display.noteOutput(legendOutput, false);
+    }
+
+    /**
+     * Reads a line of user input; the echoed line is recorded as output below the maze.
+     */
+    private String readLine() throws IOException {
+        String input = reader.readLine();
+        display.noteOutput(input == null ? "" : input, true);
+        return input;
+    }
+
+    /**
+     * Applies a navigation command to the viewport; panning moves by half a screen.
+     *
+     * @return {@code false} if the command finishes the navigation
+     */
+    private boolean navigate(MazeViewport viewport, String command) {
+        int rowStep = Math.max(1, screenRows() / 2);
+        int columnStep = Math.max(1, screenColumns() / 2);
+        switch (command) {
+            case "w" -> viewport.pan(-rowStep, 0);
+            case "s" -> viewport.pan(rowStep, 0);
+            case "a" -> viewport.pan(0, -columnStep);
+            case "d" -> viewport.pan(0, columnStep);
+            case "+" -> viewport.zoomIn();
+            case "-" -> viewport.zoomOut();
+            case "q" -> {
+                return false;
+            }
+            default -> showMessage("Unknown command: " + command);
+        }
+        return true;
+    }
+
+    private void drawViewport(MazeViewport viewport, List<Point> path, Point startPoint, Point endPoint) {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        display.draw(viewport.frame(path, startPoint, endPoint), viewport.visibleRows(), viewport.visibleColumns());
+        event.finish(TERMINAL_FORMAT, viewport.visibleRows(), viewport.visibleColumns(), path.size());
+        showMessage(viewport.status());
+    }
+
+    /**
+     * Returns the number of maze rows that fit on the screen above the reserved lines.
+     */
+    private int screenRows() {
+        int height = terminal == null ? ConsoleSizeUtil.HEIGHT : terminal.getHeight();
+        return Math.max(1, (height > 0 ? height : ConsoleSizeUtil.HEIGHT) - RESERVED_LINES);
+    }
+
+    /**
+     * Returns the number of maze cells that fit in a screen line, every cell taking two characters.
+     */
+    private int screenColumns() {
+        int width = terminal == null ? ConsoleSizeUtil.WEIGHT : terminal.getWidth();
+        return Math.max(1, (width > 0 ? width : ConsoleSizeUtil.WEIGHT) / 2);
+    }
+
+    private static int height(Cell[][] maze) {
+        return maze.length == 0 ? 0 : maze[0].length;
     }
 }
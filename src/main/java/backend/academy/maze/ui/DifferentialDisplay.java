@@ -0,0 +1,161 @@
+package backend.academy.maze.ui;
+
+import org.jline.terminal.Terminal;
+import org.jline.utils.Curses;
+import org.jline.utils.InfoCmp.Capability;
+
+/**
+ * Shows maze frames at the top of the terminal and redraws only the cells that changed since
+ * the previous frame, moving the cursor with the terminal's {@code cursor_address} capability.
+ * Text printed below the frame is left in place: after a partial redraw the cursor returns to
+ * where that text ended.
+ *
+ * <p>A frame is drawn in full, after clearing the screen with escape sequences, when it is the
+ * first one, when its size differs from the previous one, when the frame and the text below it
+ * no longer fit on the screen, or when the terminal cannot address the cursor. All output goes
+ * through a {@link TerminalOutput}. The display is not thread-safe.</p>
+ */
+public class DifferentialDisplay {
+    private static final String ANSI_CLEAR = "\033[H\033[2J";
+    private static final char SPACE = ' ';
+    private static final char NEW_LINE = '\n';
+
+    private final Terminal terminal;
+    private final TerminalOutput output;
+    private final String cursorAddress;
+    private final String clearScreen;
+    private final StringBuilder sequence = new StringBuilder();
+
+    private char[] shown = new char[0];
+    private int shownWidth = -1;  // Rows of the frame on screen, or -1 if there is none
+    private int shownHeight = -1; // Cells per row of the frame on screen
+    private int linesBelow;       // Lines of text printed below the frame
+    private int cursorRow;
+    private int cursorColumn;
+
+    /**
+     * Creates a display.
+     *
+     * @param terminal the terminal whose capabilities and size are used, or {@code null} if there is none
+     * @param output the output to write to
+     */
+    public DifferentialDisplay(Terminal terminal, TerminalOutput output) {
+        this.terminal = terminal;
+        this.output = output;
+        this.cursorAddress = terminal == null ? null : terminal.getStringCapability(Capability.cursor_address);
+        String clear = terminal == null ? null : terminal.getStringCapability(Capability.clear_screen);
+        this.clearScreen = clear == null ? ANSI_CLEAR : Curses.tputs(clear);
+    }
+
+    /**
+     * Clears the screen and forgets the frame on it.
+     */
+    public void clear() {
+        output.print(clearScreen);
+        output.flush();
+        shownWidth = -1;
+        shownHeight = -1;
+        linesBelow = 0;
+    }
+
+    /**
+     * Shows a frame, redrawing only the cells that changed when possible.
+     *
+     * @param frame the symbols of the cells, indexed by {@code x * height + y}
+     * @param width the number of rows of the frame
+     * @param height the number of cells per row
+     */
+    public void draw(char[] frame, int width, int height) {
+        if (width == shownWidth && height == shownHeight && cursorAddress != null && fits(width, height)) {
+            patch(frame, width, height);
+        } else {
+            redraw(frame, width, height);
+        }
+        output.flush();
+    }
+
+    /**
+     * Records text printed after the last frame, so that partial redraws can return the cursor
+     * below it and detect when the screen would scroll.
+     *
+     * @param text the printed text
+     * @param lineBreak whether a line break followed the text
+     */
+    public void noteOutput(CharSequence text, boolean lineBreak) {
+        int columns = terminal == null ? 0 : terminal.getWidth();
+        int lineLength = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == NEW_LINE) {
+                linesBelow += wrappedLines(lineLength, columns);
+                lineLength = 0;
+            } else {
+                lineLength++;
+            }
+        }
+        if (lineBreak) {
+            linesBelow += wrappedLines(lineLength, columns);
+        }
+    }
+
+    private static int wrappedLines(int length, int columns) {
+        return columns <= 0 || length == 0 ? 1 : (length + columns - 1) / columns;
+    }
+
+    private boolean fits(int width, int height) {
+        return width + linesBelow < terminal.getHeight() && height * 2 <= terminal.getWidth();
+    }
+
+    private void redraw(char[] frame, int width, int height) {
+        clear();
+        sequence.setLength(0);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                sequence.append(frame[x * height + y]).append(SPACE);
+            }
+            sequence.append(NEW_LINE);
+        }
+        output.print(sequence);
+
+        if (shown.length < width * height) {
+            shown = new char[width * height];
+        }
+        System.arraycopy(frame, 0, shown, 0, width * height);
+        shownWidth = width;
+        shownHeight = height;
+    }
+
+    /**
+     * Writes the changed cells, each cell {@code (x, y)} being at row {@code x} and column {@code 2 * y}.
+     * A cell right after the last written one is reached by writing the separating space instead of
+     * moving the cursor.
+     */
+    private void patch(char[] frame, int width, int height) {
+        sequence.setLength(0);
+        cursorRow = -1;
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                int index = x * height + y;
+                if (frame[index] != shown[index]) {
+                    moveTo(x, y * 2);
+                    sequence.append(frame[index]);
+                    cursorColumn++;
+                    shown[index] = frame[index];
+                }
+            }
+        }
+        if (cursorRow >= 0) {
+            moveTo(width + linesBelow, 0);
+            output.print(sequence);
+        }
+    }
+
+    private void moveTo(int row, int column) {
+        if (row == cursorRow && column == cursorColumn + 1) {
+            sequence.append(SPACE);
+        } else if (row != cursorRow || column != cursorColumn) {
+            Curses.tputs(sequence, cursorAddress, row, column);
+        }
+        cursorRow = row;
+        cursorColumn = column;
+    }
+}
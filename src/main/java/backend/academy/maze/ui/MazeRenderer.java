@@ -0,0 +1,158 @@
+package backend.academy.maze.ui;
+
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.jfr.RenderEvent;
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.PathSymbol;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Renders a maze, optionally with a path and its endpoints, as text: one line per row
+ * {@code maze[x]}, every cell followed by a space.
+ *
+ * <p>The path is first marked in an overlay bitmap with one byte per cell, so every cell is
+ * looked up once instead of searching the path for it. Symbols come from a precomputed table
+ * indexed by overlay code and cell type into a reusable frame of one {@code char} per cell, which
+ * is either formatted row by row through a reusable {@code char[]} buffer or handed to a
+ * {@link DifferentialDisplay}. The buffers are kept between calls and grow when needed, so rendering takes time
+ * linear in the number of cells and does not allocate once warmed up. A renderer is not
+ * thread-safe.</p>
+ */
+public final class MazeRenderer {
+    private static final Cell[] CELLS = Cell.values();
+
+    // Overlay codes; the table below holds one block of cell symbols per code
+    static final byte NONE = 0;
+    static final byte PATH = 1;
+    static final byte START = 2;
+    static final byte END = 3;
+    private static final char[] SYMBOLS = buildSymbols();
+
+    private static final char SPACE = ' ';
+    private static final char INDENT = '\n';
+
+    private byte[] overlay = new byte[0];
+    private char[] frameSymbols = new char[0];
+    private char[] rowBuffer = new char[0];
+    private final StringBuilder output = new StringBuilder();
+
+    /**
+     * Renders the maze without a path.
+     *
+     * @param maze the cells of the maze
+     * @return the rendered text; only valid until the next call
+     */
+    public CharSequence render(Cell[][] maze) {
+        return render(maze, List.of(), null, null);
+    }
+
+    /**
+     * Renders the maze with a path. The start and end symbols take precedence over the path symbol.
+     *
+     * @param maze the cells of the maze
+     * @param path the points of the path
+     * @param startPoint the start point, or {@code null}
+     * @param endPoint the end point, or {@code null}
+     * @return the rendered text; only valid until the next call
+     */
+    public CharSequence render(Cell[][] maze, List<Point> path, Point startPoint, Point endPoint) {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        int width = maze.length;
+        int height = width == 0 ? 0 : maze[0].length;
+        char[] symbols = frame(maze, path, startPoint, endPoint);
+
+        if (rowBuffer.length < height * 2 + 1) {
+            rowBuffer = new char[height * 2 + 1];
+        }
+        output.setLength(0);
+        output.ensureCapacity(width * (height * 2 + 1));
+
+        for (int x = 0; x < width; x++) {
+            int offset = x * height;
+            int position = 0;
+            for (int y = 0; y < height; y++) {
+                rowBuffer[position++] = symbols[offset + y];
+                rowBuffer[position++] = SPACE;
+            }
+            rowBuffer[position++] = INDENT;
+            output.append(rowBuffer, 0, position);
+        }
+        event.finish("text", width, height, path.size());
+        return output;
+    }
+
+    /**
+     * Computes the symbol of every cell, with the path and its endpoints drawn over the cells.
+     *
+     * @param maze the cells of the maze
+     * @param path the points of the path
+     * @param startPoint the start point, or {@code null}
+     * @param endPoint the end point, or {@code null}
+     * @return the symbols indexed by {@code x * height + y}; the array may be longer than the maze
+     *     and is only valid until the next call
+     */
+    public char[] frame(Cell[][] maze, List<Point> path, Point startPoint, Point endPoint) {
+        int width = maze.length;
+        int height = width == 0 ? 0 : maze[0].length;
+        fillOverlay(width, height, path, startPoint, endPoint);
+
+        if (frameSymbols.length < width * height) {
+            frameSymbols = new char[width * height];
+        }
+        for (int x = 0; x < width; x++) {
+            Cell[] row = maze[x];
+            int offset = x * height;
+            for (int y = 0; y < height; y++) {
+                frameSymbols[offset + y] = SYMBOLS[overlay[offset + y] * CELLS.length + row[y].ordinal()];
+            }
+        }
+        return frameSymbols;
+    }
+
+    /**
+     * Marks the path and its endpoints in the overlay, indexed by {@code x * height + y}.
+     */
+    private void fillOverlay(int width, int height, List<Point> path, Point startPoint, Point endPoint) {
+        int cells = width * height;
+        if (overlay.length < cells) {
+            overlay = new byte[cells];
+        } else {
+            Arrays.fill(overlay, 0, cells, NONE);
+        }
+        for (Point point : path) {
+            mark(point, width, height, PATH);
+        }
+        mark(endPoint, width, height, END);
+        mark(startPoint, width, height, START);
+    }
+
+    private void mark(Point point, int width, int height, byte code) {
+        if (point != null && point.x() >= 0 && point.x() < width && point.y() >= 0 && point.y() < height) {
+            overlay[point.x() * height + point.y()] = code;
+        }
+    }
+
+    /**
+     * Returns the symbol of a cell under the given overlay code.
+     *
+     * @param code the overlay code
+     * @param cellOrdinal the ordinal of the cell type
+     * @return the symbol to display
+     */
+    static char symbol(int code, int cellOrdinal) {
+        return SYMBOLS[code * CELLS.length + cellOrdinal];
+    }
+
+    private static char[] buildSymbols() {
+        char[] overlaySymbols = {0, PathSymbol.PATH.symbol(), PathSymbol.START.symbol(), PathSymbol.END.symbol()};
+        char[] symbols = new char[overlaySymbols.length * CELLS.length];
+        for (int code = 0; code < overlaySymbols.length; code++) {
+            for (Cell cell : CELLS) {
+                symbols[code * CELLS.length + cell.ordinal()] = code == NONE ? cell.symbol() : overlaySymbols[code];
+            }
+        }
+        return symbols;
+    }
+}
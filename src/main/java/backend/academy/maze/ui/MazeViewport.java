@@ -0,0 +1,281 @@
+package backend.academy.maze.ui;
+
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Cell;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A window onto a maze that may be much larger than the screen. Only the visible cells are
+ * rendered, the window can be panned, and zooming out shows the maze at a coarser level of a
+ * precomputed resolution pyramid.
+ *
+ * <p>Level 0 of the pyramid is the maze itself; every further level halves both dimensions,
+ * each cell summarizing a 2x2 block of the level below: the block becomes a wall if at least
+ * half of it is walls, and otherwise the most frequent open cell type. Levels are stored as flat
+ * arrays of cell ordinals indexed by {@code x * height + y}, about a third of the maze's cell
+ * count in total on top of level 0. The viewport is not thread-safe.</p>
+ */
+public final class MazeViewport {
+    private static final Cell[] CELLS = Cell.values();
+    private static final int WALL = Cell.WALL.ordinal();
+    private static final int BLOCK = 2;
+
+    private final byte[][] levels;
+    private final int[] levelWidths;
+    private final int[] levelHeights;
+
+    private int rows;
+    private int columns;
+    private int level;
+    private int top;
+    private int left;
+
+    private byte[] overlay = new byte[0];
+    private char[] frame = new char[0];
+
+    /**
+     * Creates a viewport of the given size showing the top left corner of the maze at full resolution.
+     *
+     * @param maze the cells of the maze
+     * @param rows the number of rows the window shows
+     * @param columns the number of cells per row the window shows
+     */
+    public MazeViewport(Cell[][] maze, int rows, int columns) {
+        int width = maze.length;
+        int height = width == 0 ? 0 : maze[0].length;
+        int count = 1;
+        int w = width;
+        int h = height;
+        while (w > 1 || h > 1) {
+            w = (w + 1) / BLOCK;
+            h = (h + 1) / BLOCK;
+            count++;
+        }
+
+        this.levels = new byte[count][];
+        this.levelWidths = new int[count];
+        this.levelHeights = new int[count];
+        levels[0] = new byte[width * height];
+        levelWidths[0] = width;
+        levelHeights[0] = height;
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                levels[0][x * height + y] = (byte) maze[x][y].ordinal();
+            }
+        }
+        for (int k = 1; k < count; k++) {
+            downsample(k);
+        }
+        resize(rows, columns);
+    }
+
+    /**
+     * Changes the size of the window, keeping its top left corner where possible.
+     *
+     * @param windowRows the number of rows the window shows
+     * @param windowColumns the number of cells per row the window shows
+     */
+    public void resize(int windowRows, int windowColumns) {
+        this.rows = Math.max(1, windowRows);
+        this.columns = Math.max(1, windowColumns);
+        clamp();
+    }
+
+    /**
+     * Zooms out until the whole maze fits in the window and moves the window to the top left corner.
+     */
+    public void fit() {
+        level = 0;
+        while (level + 1 < levels.length && (levelWidths[level] > rows || levelHeights[level] > columns)) {
+            level++;
+        }
+        top = 0;
+        left = 0;
+    }
+
+    /**
+     * Moves the window by the given number of cells of the current level.
+     *
+     * @param deltaRows the rows to move down, negative to move up
+     * @param deltaColumns the cells to move right, negative to move left
+     */
+    public void pan(int deltaRows, int deltaColumns) {
+        top += deltaRows;
+        left += deltaColumns;
+        clamp();
+    }
+
+    /**
+     * Shows the next finer level, keeping the center of the window in place.
+     */
+    public void zoomIn() {
+        setLevel(level - 1);
+    }
+
+    /**
+     * Shows the next coarser level, keeping the center of the window in place.
+     */
+    public void zoomOut() {
+        setLevel(level + 1);
+    }
+
+    /**
+     * Returns the number of rows of the window that show maze cells.
+     *
+     * @return the visible rows
+     */
+    public int visibleRows() {
+        return Math.min(rows, levelWidths[level] - top);
+    }
+
+    /**
+     * Returns the number of cells per row of the window that show maze cells.
+     *
+     * @return the visible cells per row
+     */
+    public int visibleColumns() {
+        return Math.min(columns, levelHeights[level] - left);
+    }
+
+    /**
+     * Describes the visible part of the maze in maze coordinates.
+     *
+     * @return a one-line description of the window
+     */
+    public String status() {
+        int scale = 1 << level;
+        int width = levelWidths[0];
+        int height = levelHeights[0];
+        return "Rows " + range(top, visibleRows(), scale, width)
+            + ", columns " + range(left, visibleColumns(), scale, height) + ", scale 1:" + scale;
+    }
+
+    private static String range(int first, int count, int scale, int total) {
+        return Math.min(total, first * scale) + "-" + Math.min(total, (first + count) * scale) + " of " + total;
+    }
+
+    /**
+     * Renders the visible cells with the path drawn over them. At coarser levels a cell is marked
+     * when any point of its block is.
+     *
+     * @param path the points of the path, in maze coordinates
+     * @param startPoint the start point, or {@code null}
+     * @param endPoint the end point, or {@code null}
+     * @return the symbols of the visible cells indexed by {@code row * visibleColumns() + column};
+     *     only valid until the next call
+     */
+    public char[] frame(List<Point> path, Point startPoint, Point endPoint) {
+        int visibleRows = visibleRows();
+        int visibleColumns = visibleColumns();
+        int cells = visibleRows * visibleColumns;
+        if (frame.length < cells) {
+            frame = new char[cells];
+            overlay = new byte[cells];
+        } else {
+            Arrays.fill(overlay, 0, cells, MazeRenderer.NONE);
+        }
+
+        for (Point point : path) {
+            mark(point, MazeRenderer.PATH);
+        }
+        mark(endPoint, MazeRenderer.END);
+        mark(startPoint, MazeRenderer.START);
+
+        byte[] cellsOfLevel = levels[level];
+        int levelHeight = levelHeights[level];
+        for (int r = 0; r < visibleRows; r++) {
+            int source = (top + r) * levelHeight + left;
+            int target = r * visibleColumns;
+            for (int c = 0; c < visibleColumns; c++) {
+                frame[target + c] = MazeRenderer.symbol(overlay[target + c], cellsOfLevel[source + c]);
+            }
+        }
+        return frame;
+    }
+
+    private void mark(Point point, byte code) {
+        if (point == null) {
+            return;
+        }
+        int r = (point.x() >> level) - top;
+        int c = (point.y() >> level) - left;
+        if (point.x() >= 0 && point.y() >= 0 && r >= 0 && c >= 0 && r < visibleRows() && c < visibleColumns()) {
+            overlay[r * visibleColumns() + c] = code;
+        }
+    }
+
+    private void setLevel(int newLevel) {
+        if (newLevel < 0 || newLevel >= levels.length) {
+            return;
+        }
+        int centerX = (top + rows / 2) << level;
+        int centerY = (left + columns / 2) << level;
+        level = newLevel;
+        top = (centerX >> level) - rows / 2;
+        left = (centerY >> level) - columns / 2;
+        clamp();
+    }
+
+    private void clamp() {
+        top = Math.max(0, Math.min(top, levelWidths[level] - rows));
+        left = Math.max(0, Math.min(left, levelHeights[level] - columns));
+    }
+
+    /**
+     * Builds level {@code k} from level {@code k - 1}.
+     */
+    private void downsample(int k) {
+        int width = levelWidths[k - 1];
+        int height = levelHeights[k - 1];
+        int nextWidth = (width + 1) / BLOCK;
+        int nextHeight = (height + 1) / BLOCK;
+        byte[] source = levels[k - 1];
+        byte[] target = new byte[nextWidth * nextHeight];
+        int[] counts = new int[CELLS.length];
+
+        for (int x = 0; x < nextWidth; x++) {
+            for (int y = 0; y < nextHeight; y++) {
+                int blockCells = countBlock(source, width, height, x * BLOCK, y * BLOCK, counts);
+                target[x * nextHeight + y] = (byte) summarize(counts, blockCells);
+            }
+        }
+        levels[k] = target;
+        levelWidths[k] = nextWidth;
+        levelHeights[k] = nextHeight;
+    }
+
+    /**
+     * Counts the cell types of the block whose top left cell is {@code (x, y)}; blocks on the
+     * bottom and right edges may be smaller.
+     *
+     * @return the number of cells in the block
+     */
+    private static int countBlock(byte[] source, int width, int height, int x, int y, int[] counts) {
+        Arrays.fill(counts, 0);
+        int blockCells = 0;
+        for (int bx = x; bx < Math.min(width, x + BLOCK); bx++) {
+            for (int by = y; by < Math.min(height, y + BLOCK); by++) {
+                counts[source[bx * height + by]]++;
+                blockCells++;
+            }
+        }
+        return blockCells;
+    }
+
+    /**
+     * Returns the ordinal of the cell type that represents a block with the given type counts.
+     */
+    private static int summarize(int[] counts, int blockCells) {
+        if (counts[WALL] * 2 >= blockCells) {
+            return WALL;
+        }
+        int best = -1;
+        for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+            if (ordinal != WALL && (best < 0 || counts[ordinal] > counts[best])) {
+                best = ordinal;
+            }
+        }
+        return best;
+    }
+}
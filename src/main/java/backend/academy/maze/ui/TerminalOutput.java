@@ -0,0 +1,149 @@
+package backend.academy.maze.ui;
+
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffered UTF-8 text output to a byte stream, by default the process's standard output.
+ * Text is encoded straight into a large reusable byte buffer, with a fast path for ASCII that
+ * copies each character as one byte, and the buffer is written to the stream only when it is
+ * full or flushed. Frames of any size therefore cost a few large writes and no formatting.
+ *
+ * <p>Callers must {@link #flush()} before waiting for user input. The output is not thread-safe.</p>
+ */
+public class TerminalOutput implements Flushable, Closeable {
+    private static final int BUFFER_SIZE = 65_536;
+    private static final char MAX_ASCII = 0x7F;
+    private static final char NEW_LINE = '\n';
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private int position;
+
+    /**
+     * Creates an output to the process's standard output. The standard output stream is not
+     * closed by {@link #close()}.
+     */
+    public TerminalOutput() {
+        this(new FileOutputStream(FileDescriptor.out));
+    }
+
+    /**
+     * Creates an output to the given stream.
+     *
+     * @param out the destination of the encoded bytes
+     */
+    public TerminalOutput(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes the text.
+     *
+     * @param text the text to write
+     * @throws UncheckedIOException if the underlying stream fails
+     */
+    public void print(CharSequence text) {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c > MAX_ASCII) {
+                encode(text, i);
+                return;
+            }
+            if (position == buffer.length) {
+                drain();
+            }
+            buffer[position++] = (byte) c;
+        }
+    }
+
+    /**
+     * Writes the text followed by a line break.
+     *
+     * @param text the text to write
+     * @throws UncheckedIOException if the underlying stream fails
+     */
+    public void println(CharSequence text) {
+        print(text);
+        if (position == buffer.length) {
+            drain();
+        }
+        buffer[position++] = NEW_LINE;
+    }
+
+    /**
+     * Writes the buffered bytes to the stream and flushes it.
+     *
+     * @throws UncheckedIOException if the underlying stream fails
+     */
+    @Override
+    public void flush() {
+        drain();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to flush terminal output", e);
+        }
+    }
+
+    /**
+     * Flushes the output. The stream is closed unless it is the standard output.
+     *
+     * @throws IOException if the underlying stream fails
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (!(out instanceof FileOutputStream fileOut && fileOut.getFD() == FileDescriptor.out)) {
+            out.close();
+        }
+    }
+
+    /**
+     * Encodes the text from the given index on with the general UTF-8 encoder; malformed
+     * characters are replaced.
+     */
+    private void encode(CharSequence text, int from) {
+        CharBuffer chars = CharBuffer.wrap(text, from, text.length());
+        ByteBuffer bytes = ByteBuffer.wrap(buffer);
+        encoder.reset();
+        bytes.position(position);
+        while (encoder.encode(chars, bytes, true).isOverflow()) {
+            position = bytes.position();
+            drain();
+            bytes.clear();
+        }
+        while (encoder.flush(bytes).isOverflow()) {
+            position = bytes.position();
+            drain();
+            bytes.clear();
+        }
+        position = bytes.position();
+    }
+
+    private void drain() {
+        if (position == 0) {
+            return;
+        }
+        try {
+            out.write(buffer, 0, position);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write terminal output", e);
+        }
+        position = 0;
+    }
+}
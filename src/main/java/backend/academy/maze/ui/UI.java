@@ -51,6 +51,16 @@ public interface UI {
      */
     void showMaze(Cell[][] maze, List<Point> path, Point startPoint, Point endPoint);
 
+    /**
+     * Lets the user pan and zoom around a maze that is larger than the screen, until the user finishes.
+     *
+     * @param maze the array of cells representing the maze.
+     * @param path the path to be displayed within the maze.
+     * @param startPoint the starting point in the maze.
+     * @param endPoint the ending point in the maze.
+     */
+    void exploreMaze(Cell[][] maze, List<Point> path, Point startPoint, Point endPoint);
+
     /**
      * Displays the maze without any additional paths or points.
      *
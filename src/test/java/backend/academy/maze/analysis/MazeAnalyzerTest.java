@@ -0,0 +1,95 @@
+package backend.academy.maze.analysis;
+
+import backend.academy.maze.generation.RecursiveBacktrackerMazeGenerator;
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MazeAnalyzerTest {
+
+    @Test
+    void givenTreeWithIsolatedCell_whenAnalyzing_thenStatsAreComputed() {
+        Maze maze = parse(
+            "#######",
+            "#.....#",
+            "###.###",
+            "###.#.#",
+            "#######");
+
+        MazeStats stats = MazeAnalyzer.analyze(maze);
+
+        assertThat(stats.openCells()).isEqualTo(8);
+        assertThat(stats.edges()).isEqualTo(6);
+        assertThat(stats.components()).isEqualTo(2);
+        assertThat(stats.degreeHistogram()).containsExactly(1, 3, 3, 1, 0);
+        assertThat(stats.deadEnds()).isEqualTo(3);
+        assertThat(stats.junctions()).isEqualTo(1);
+        assertThat(stats.branchingFactor()).isEqualTo(2.0);
+        assertThat(stats.corridorLengths()).containsExactly(Map.entry(1, 3));
+        assertThat(stats.loops()).isZero();
+        assertThat(stats.perfect()).isFalse();
+        assertThat(stats.diameter()).isEqualTo(4);
+        assertThat(stats.diameterExact()).isTrue();
+    }
+
+    @Test
+    void givenRing_whenAnalyzing_thenLoopAndCorridorAreFound() {
+        Maze maze = parse(
+            "#####",
+            "#...#",
+            "#.#.#",
+            "#...#",
+            "#####");
+
+        MazeStats stats = MazeAnalyzer.analyze(maze);
+
+        assertThat(stats.loops()).isEqualTo(1);
+        assertThat(stats.deadEnds()).isZero();
+        assertThat(stats.corridorLengths()).containsExactly(Map.entry(8, 1));
+        assertThat(stats.diameter()).isEqualTo(4);
+        assertThat(stats.diameterExact()).isFalse();
+    }
+
+    @Test
+    void givenPerfectMazeSpanningSeveralBands_whenAnalyzing_thenMazeIsPerfect() {
+        Maze maze = new RecursiveBacktrackerMazeGenerator().generate(201, 151, new SplittableRandom(5));
+
+        MazeStats stats = MazeAnalyzer.analyze(maze);
+
+        assertThat(stats.components()).isEqualTo(1);
+        assertThat(stats.perfect()).isTrue();
+        assertThat(stats.corridorLengths().entrySet().stream()
+            .mapToLong(entry -> (long) entry.getKey() * entry.getValue())
+            .sum()).isEqualTo(stats.degreeHistogram()[2]);
+        Point start = stats.diameterStart();
+        Point end = stats.diameterEnd();
+        assertThat(maze.maze()[start.x()][start.y()]).isNotEqualTo(Cell.WALL);
+        assertThat(maze.maze()[end.x()][end.y()]).isNotEqualTo(Cell.WALL);
+    }
+
+    @Test
+    void givenOnlyWalls_whenAnalyzing_thenStatsAreEmpty() {
+        MazeStats stats = MazeAnalyzer.analyze(parse("###", "###"));
+
+        assertThat(stats.openCells()).isZero();
+        assertThat(stats.components()).isZero();
+        assertThat(stats.diameterStart()).isNull();
+    }
+
+    private static Maze parse(String... rows) {
+        Cell[][] cells = new Cell[rows.length][];
+        for (int x = 0; x < rows.length; x++) {
+            cells[x] = new Cell[rows[x].length()];
+            for (int y = 0; y < rows[x].length(); y++) {
+                cells[x][y] = rows[x].charAt(y) == '#' ? Cell.WALL : Cell.ROAD;
+            }
+        }
+        return new Maze(cells, rows.length, rows[0].length());
+    }
+}
@@ -0,0 +1,45 @@
+package backend.academy.maze.benchmark;
+
+import backend.academy.maze.generation.MazeGeneratorType;
+import backend.academy.maze.model.Maze;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of every {@link MazeGeneratorType} on square mazes from 100 to 4000 cells per side.
+ * Every invocation generates from the same seed, so all runs and all commits build the same mazes
+ * and results stay comparable. Run with the {@code benchmark} Maven profile, which adds the
+ * {@code gc} profiler for allocation rates and writes the results as JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MazeGeneratorBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param
+    public MazeGeneratorType algorithm;
+
+    @Param({"100", "500", "1000", "2000", "4000"})
+    public int size;
+
+    @Benchmark
+    public Maze generate() {
+        return algorithm.generator().generate(size, size, new SplittableRandom(SEED));
+    }
+}
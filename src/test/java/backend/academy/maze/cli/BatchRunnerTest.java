@@ -0,0 +1,85 @@
+package backend.academy.maze.cli;
+
+import backend.academy.maze.generation.MazeGeneratorType;
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.ui.TerminalOutput;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchRunnerTest {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final TerminalOutput out = new TerminalOutput(bytes);
+
+    @Test
+    void givenRepetitionsAndFormat_whenExecuting_thenEveryRunIsTimedAndWritten(@TempDir Path directory) {
+        String[] args = {"-H", "21", "-W", "31", "-s", "7", "-n", "2", "--special-cells", "0.2",
+            "-f", "SVG", "-o", directory.toString()};
+
+        int status = BatchRunner.execute(args, out);
+
+        String report = bytes.toString(StandardCharsets.UTF_8);
+        assertThat(status).isZero();
+        assertThat(report).contains("seed 7", "run 1: generate", "run 2: generate", "path ", "solve: min ");
+        assertThat(directory.resolve("maze-1.svg")).isNotEmptyFile();
+        assertThat(directory.resolve("maze-2.svg")).isNotEmptyFile();
+    }
+
+    @Test
+    void givenSameSeed_whenExecutingTwice_thenPathsAreIdentical() {
+        String[] args = {"-s", "42", "-e", "SAMPLE", "-p", "ASTAR"};
+
+        BatchRunner.execute(args, out);
+        String first = pathSummary(bytes.toString(StandardCharsets.UTF_8));
+        bytes.reset();
+        BatchRunner.execute(args, out);
+
+        assertThat(pathSummary(bytes.toString(StandardCharsets.UTF_8))).isEqualTo(first).contains("cost");
+    }
+
+    @Test
+    void givenInvalidArgument_whenExecuting_thenErrorStatusIsReturned() {
+        int status = BatchRunner.execute(new String[] {"--width", "-3"}, out);
+
+        assertThat(status).isEqualTo(1);
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).startsWith("Error: ");
+    }
+
+    @Test
+    void givenStreamOption_whenExecuting_thenRowsAreWrittenAsTheFirstRunWouldGenerateThem(@TempDir Path directory) {
+        String[] args = {"--stream", "-a", "ELLER", "-H", "21", "-W", "31", "-s", "7", "-o", directory.toString()};
+
+        int status = BatchRunner.execute(args, out);
+
+        Cell[][] cells = MazeGeneratorType.ELLER.generator().generate(21, 31, new SplittableRandom(7).split()).maze();
+        StringBuilder expected = new StringBuilder();
+        for (Cell[] row : cells) {
+            for (Cell cell : row) {
+                expected.append(cell.symbol());
+            }
+            expected.append('\n');
+        }
+        assertThat(status).isZero();
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).contains("seed 7, streamed to ");
+        assertThat(directory.resolve("maze-1.txt")).hasContent(expected.toString());
+    }
+
+    @Test
+    void givenStreamOptionWithOtherAlgorithm_whenExecuting_thenErrorStatusIsReturned(@TempDir Path directory) {
+        int status = BatchRunner.execute(new String[] {"--stream", "-a", "PRIM", "-o", directory.toString()}, out);
+
+        assertThat(status).isEqualTo(1);
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).startsWith("Error: Only ELLER can stream");
+    }
+
+    private static String pathSummary(String report) {
+        return report.substring(report.indexOf(", path "));
+    }
+}
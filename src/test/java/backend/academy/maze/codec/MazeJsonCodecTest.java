@@ -0,0 +1,72 @@
+package backend.academy.maze.codec;
+
+import backend.academy.maze.generation.WilsonMazeGenerator;
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Maze;
+import backend.academy.maze.model.utils.MazeUtils;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MazeJsonCodecTest {
+
+    private final JsonFactory factory = new JsonFactory();
+
+    @ParameterizedTest
+    @EnumSource(RowEncoding.class)
+    void givenMaze_whenWritingAndReading_thenCellsAreRestored(RowEncoding encoding) throws IOException {
+        Maze maze = new WilsonMazeGenerator().generate(21, 13, new SplittableRandom(1));
+        MazeUtils.addSpecialCells(maze, 0.3, new SplittableRandom(2));
+
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = factory.createGenerator(json)) {
+            MazeJsonCodec.writeMaze(generator, maze, encoding);
+        }
+        Maze read;
+        try (JsonParser parser = factory.createParser(json.toString())) {
+            read = MazeJsonCodec.readMaze(parser);
+        }
+
+        assertThat(read.width()).isEqualTo(maze.width());
+        assertThat(read.height()).isEqualTo(maze.height());
+        assertThat(read.maze()).isDeepEqualTo(maze.maze());
+    }
+
+    @Test
+    void givenPath_whenWriting_thenMovesAreDirectionSymbols() throws IOException {
+        List<Point> path = List.of(new Point(1, 1), new Point(1, 2), new Point(2, 2), new Point(2, 1), new Point(1, 1));
+
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = factory.createGenerator(json)) {
+            MazeJsonCodec.writePath(generator, path);
+        }
+        List<Point> read;
+        try (JsonParser parser = factory.createParser(json.toString())) {
+            read = MazeJsonCodec.readPath(parser);
+        }
+
+        assertThat(json).hasToString("{\"start\":[1,1],\"moves\":\"RDLU\"}");
+        assertThat(read).containsExactlyElementsOf(path);
+    }
+
+    @Test
+    void givenUnknownSymbol_whenReadingMaze_thenParseFails() throws IOException {
+        try (JsonParser parser = factory.createParser("{\"height\":1,\"width\":2,\"rows\":[\"#?\"]}")) {
+            assertThatThrownBy(() -> MazeJsonCodec.readMaze(parser))
+                .isInstanceOf(JsonParseException.class)
+                .hasMessageStartingWith("Unknown cell symbol: ?");
+        }
+    }
+}
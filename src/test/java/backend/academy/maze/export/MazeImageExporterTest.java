@@ -0,0 +1,59 @@
+package backend.academy.maze.export;
+
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Cell;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import javax.imageio.ImageIO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MazeImageExporterTest {
+
+    private static final int CELL_SIZE = 3;
+    private static final Cell[][] MAZE = {
+        {Cell.WALL, Cell.WALL, Cell.WALL},
+        {Cell.ROAD, Cell.SWAMP, Cell.ROAD},
+        {Cell.WALL, Cell.WALL, Cell.ACCELERATED_PATH}
+    };
+
+    private final MazeImageExporter exporter = new MazeImageExporter(CELL_SIZE);
+
+    @Test
+    void givenMaze_whenRendering_thenEveryCellBecomesSquareOfItsColor() {
+        BufferedImage image = exporter.render(MAZE, List.of(), null, null);
+
+        assertThat(image.getWidth()).isEqualTo(MAZE[0].length * CELL_SIZE);
+        assertThat(image.getHeight()).isEqualTo(MAZE.length * CELL_SIZE);
+        Raster raster = image.getRaster();
+        for (int x = 0; x < MAZE.length; x++) {
+            for (int y = 0; y < MAZE[x].length; y++) {
+                assertThat(raster.getSample(y * CELL_SIZE, x * CELL_SIZE, 0)).isEqualTo(MAZE[x][y].ordinal());
+                assertThat(raster.getSample(y * CELL_SIZE + CELL_SIZE - 1, x * CELL_SIZE + CELL_SIZE - 1, 0))
+                    .isEqualTo(MAZE[x][y].ordinal());
+            }
+        }
+    }
+
+    @Test
+    void givenPath_whenExporting_thenPathIsDrawnOverCellsAndFileIsReadable(@TempDir Path directory)
+            throws IOException {
+        Path file = directory.resolve("maze.png");
+        List<Point> path = List.of(new Point(1, 0), new Point(1, 1), new Point(1, 2), new Point(2, 2));
+
+        exporter.export(MAZE, path, new Point(1, 0), new Point(2, 2), file);
+
+        BufferedImage image = ImageIO.read(file.toFile());
+        int pathColor = image.getRGB(CELL_SIZE, CELL_SIZE);
+        assertThat(image.getWidth()).isEqualTo(MAZE[0].length * CELL_SIZE);
+        assertThat(pathColor).isNotEqualTo(image.getRGB(0, 0));
+        assertThat(image.getRGB(0, CELL_SIZE)).isNotEqualTo(pathColor).isNotEqualTo(image.getRGB(0, 0));
+        assertThat(image.getRGB(CELL_SIZE * 2, CELL_SIZE * 2)).isNotEqualTo(pathColor);
+    }
+}
@@ -0,0 +1,79 @@
+package backend.academy.maze.export;
+
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Cell;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MazeSvgExporterTest {
+
+    private static final Cell[][] MAZE = {
+        {Cell.WALL, Cell.WALL, Cell.WALL, Cell.WALL},
+        {Cell.ROAD, Cell.ROAD, Cell.ROAD, Cell.WALL},
+        {Cell.WALL, Cell.SWAMP, Cell.SWAMP, Cell.ROAD}
+    };
+
+    private final MazeSvgExporter exporter = new MazeSvgExporter();
+
+    @Test
+    void givenMaze_whenExporting_thenEqualCellsInRowAreMerged() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        exporter.export(MAZE, List.of(), null, null, writer);
+
+        String svg = writer.toString();
+        assertThat(svg).startsWith("<svg").endsWith("</svg>\n");
+        assertThat(svg).contains("<rect class=\"c0\" x=\"0\" y=\"0\" width=\"4\" height=\"1\"/>");
+        assertThat(svg).contains("<rect class=\"c2\" x=\"1\" y=\"2\" width=\"2\" height=\"1\"/>");
+        assertThat(svg.split("<rect class=", -1)).hasSize(5);
+        assertThat(svg).doesNotContain("<polyline");
+    }
+
+    @Test
+    void givenPath_whenExporting_thenPolylineKeepsOnlyTurns() throws IOException {
+        StringWriter writer = new StringWriter();
+        List<Point> path = List.of(new Point(1, 0), new Point(1, 1), new Point(1, 2), new Point(2, 2), new Point(2, 3));
+
+        exporter.export(MAZE, path, new Point(1, 0), new Point(2, 3), writer);
+
+        String svg = writer.toString();
+        assertThat(svg).contains("points=\"0,1 2,1 2,2 3,2\"");
+        assertThat(svg).contains("<circle cx=\"0\" cy=\"1\"").contains("<circle cx=\"3\" cy=\"2\"");
+    }
+
+    @Test
+    void givenLongPath_whenExporting_thenPointsAreWrittenInBoundedChunks() throws IOException {
+        ChunkWriter writer = new ChunkWriter();
+        List<Point> path = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            path.add(new Point(i / 2, (i + 1) / 2));
+        }
+
+        exporter.export(MAZE, path, null, null, writer);
+
+        assertThat(writer.toString()).contains("points=\"0,0 1,0 1,1 2,1");
+        assertThat(writer.chunks).isGreaterThan(10);
+        assertThat(writer.largestChunk).isLessThan(10_000);
+    }
+
+    /**
+     * A writer that records how many chunks it receives and the size of the largest one.
+     */
+    private static final class ChunkWriter extends StringWriter {
+        private int chunks;
+        private int largestChunk;
+
+        @Override
+        public StringWriter append(CharSequence csq) {
+            chunks++;
+            largestChunk = Math.max(largestChunk, csq.length());
+            return super.append(csq);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package backend.academy.maze.generation;
+
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class BraidedMazeGeneratorTest {
+
+    private static final int SIZE = 41;
+    private static final int REGIONS = 4;
+
+    @Test
+    void givenFullBraidRate_whenGenerating_thenNoDeadEndsRemain() {
+        BraidedMazeGenerator generator = new BraidedMazeGenerator(new RecursiveBacktrackerMazeGenerator(), 1.0);
+
+        Maze maze = generator.generate(SIZE, SIZE, new SplittableRandom(1));
+
+        int roads = MazeTopology.countRoads(maze.maze());
+        assertThat(countDeadEnds(maze.maze())).isZero();
+        assertThat(MazeTopology.countEdges(maze.maze())).isGreaterThan(roads - 1);
+        assertThat(MazeTopology.countReachable(maze.maze())).isEqualTo(roads);
+    }
+
+    @Test
+    void givenZeroBraidRate_whenGenerating_thenMazeStaysPerfect() {
+        BraidedMazeGenerator generator = new BraidedMazeGenerator(new KruskalMazeGenerator(), 0.0);
+
+        Maze maze = generator.generate(SIZE, SIZE, new SplittableRandom(1));
+
+        int roads = MazeTopology.countRoads(maze.maze());
+        assertThat(MazeTopology.countEdges(maze.maze())).isEqualTo(roads - 1);
+    }
+
+    @Test
+    void givenPartialBraidRate_whenBraiding_thenSomeDeadEndsRemain() {
+        Maze maze = new RecursiveBacktrackerMazeGenerator().generate(SIZE, SIZE, new SplittableRandom(3));
+        int before = countDeadEnds(maze.maze());
+
+        int removed = BraidedMazeGenerator.braid(maze, 0.5, new SplittableRandom(3));
+
+        assertThat(removed).isPositive();
+        assertThat(countDeadEnds(maze.maze())).isPositive().isLessThan(before);
+    }
+
+    @Test
+    void givenPartialBraidRate_whenBraidingLargeMaze_thenRemovedFractionMatchesRate() {
+        for (double rate : new double[] {0.1, 0.3, 0.5}) {
+            Maze maze = new KruskalMazeGenerator().generate(201, 201, new SplittableRandom(5));
+            int before = countDeadEnds(maze.maze());
+
+            BraidedMazeGenerator.braid(maze, rate, new SplittableRandom(5));
+
+            double removedFraction = (double) (before - countDeadEnds(maze.maze())) / before;
+            assertThat(removedFraction).isLessThanOrEqualTo(rate + 1.0 / before).isGreaterThan(rate * 0.8);
+        }
+    }
+
+    @Test
+    void givenPartialBraidRate_whenBraidingLargeMaze_thenEveryRegionLosesItsShare() {
+        for (double rate : new double[] {0.3, 0.5}) {
+            Maze maze = new KruskalMazeGenerator().generate(401, 401, new SplittableRandom(5));
+            int[] before = countDeadEndsPerRegion(maze.maze());
+
+            BraidedMazeGenerator.braid(maze, rate, new SplittableRandom(5));
+
+            int[] after = countDeadEndsPerRegion(maze.maze());
+            for (int region = 0; region < REGIONS; region++) {
+                double removedFraction = (double) (before[region] - after[region]) / before[region];
+                assertThat(removedFraction).as("region %d at rate %s", region, rate).isCloseTo(rate, within(0.08));
+            }
+        }
+    }
+
+    /**
+     * Counts the dead ends in each of {@link #REGIONS} equal bands of rows.
+     */
+    private static int[] countDeadEndsPerRegion(Cell[][] cells) {
+        int[] deadEnds = new int[REGIONS];
+        for (int x = 0; x < cells.length; x++) {
+            for (int y = 0; y < cells[x].length; y++) {
+                if (cells[x][y] != Cell.WALL && openNeighbors(cells, x, y) == 1) {
+                    deadEnds[x * REGIONS / cells.length]++;
+                }
+            }
+        }
+        return deadEnds;
+    }
+
+    private static int countDeadEnds(Cell[][] cells) {
+        int deadEnds = 0;
+        for (int x = 0; x < cells.length; x++) {
+            for (int y = 0; y < cells[x].length; y++) {
+                if (cells[x][y] != Cell.WALL && openNeighbors(cells, x, y) == 1) {
+                    deadEnds++;
+                }
+            }
+        }
+        return deadEnds;
+    }
+
+    private static int openNeighbors(Cell[][] cells, int x, int y) {
+        int open = 0;
+        int[][] offsets = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        for (int[] offset : offsets) {
+            int nx = x + offset[0];
+            int ny = y + offset[1];
+            if (nx >= 0 && ny >= 0 && nx < cells.length && ny < cells[nx].length && cells[nx][ny] != Cell.WALL) {
+                open++;
+            }
+        }
+        return open;
+    }
+}
@@ -0,0 +1,64 @@
+package backend.academy.maze.generation;
+
+import backend.academy.maze.generation.stream.WriterRowSink;
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EllerMazeGeneratorTest {
+
+    private static final int WIDTH = 41;
+    private static final int HEIGHT = 31;
+
+    private final EllerMazeGenerator generator = new EllerMazeGenerator();
+
+    @Test
+    void givenSameSeed_whenStreamingThroughWriterSink_thenTextMatchesGeneratedMaze() {
+        StringWriter writer = new StringWriter();
+
+        generator.stream(WIDTH, HEIGHT, new SplittableRandom(7), new WriterRowSink(writer));
+        Maze maze = generator.generate(WIDTH, HEIGHT, new SplittableRandom(7));
+
+        assertThat(writer.toString()).isEqualTo(symbols(maze.maze()));
+    }
+
+    @Test
+    void givenStreaming_whenRowsArrive_thenTheyComeInIndexOrderInOneReusedBuffer() {
+        List<Integer> indices = new ArrayList<>();
+        Set<Cell[]> buffers = Collections.newSetFromMap(new IdentityHashMap<>());
+        StringWriter writer = new StringWriter();
+        WriterRowSink sink = new WriterRowSink(writer);
+
+        generator.stream(WIDTH + 1, HEIGHT, new SplittableRandom(3), (x, row) -> {
+            indices.add(x);
+            buffers.add(row);
+            sink.acceptRow(x, row);
+        });
+
+        assertThat(indices).hasSize(WIDTH + 1).isSorted().doesNotHaveDuplicates();
+        assertThat(buffers).hasSize(1);
+        assertThat(writer.toString())
+            .isEqualTo(symbols(generator.generate(WIDTH + 1, HEIGHT, new SplittableRandom(3)).maze()));
+    }
+
+    private static String symbols(Cell[][] cells) {
+        StringBuilder text = new StringBuilder();
+        for (Cell[] row : cells) {
+            for (Cell cell : row) {
+                text.append(cell.symbol());
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+}
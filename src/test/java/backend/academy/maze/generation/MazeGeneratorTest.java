@@ -0,0 +1,61 @@
+package backend.academy.maze.generation;
+
+import backend.academy.maze.generation.stream.CarveEventBuffer;
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MazeGeneratorTest {
+
+    private static final int WIDTH = 21;
+    private static final int HEIGHT = 31;
+
+    @ParameterizedTest
+    @EnumSource(MazeGeneratorType.class)
+    void givenGenerator_whenGenerating_thenReturnMazeOfRequestedSize(MazeGeneratorType type) {
+        Maze maze = type.generator().generate(WIDTH, HEIGHT);
+
+        assertThat(maze.width()).isEqualTo(WIDTH);
+        assertThat(maze.height()).isEqualTo(HEIGHT);
+        assertThat(maze.maze()).hasNumberOfRows(WIDTH);
+        assertThat(maze.maze()[0]).hasSize(HEIGHT);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = MazeGeneratorType.class, names = "BRAIDED", mode = EnumSource.Mode.EXCLUDE)
+    void givenGenerator_whenGenerating_thenRoadsFormSingleTree(MazeGeneratorType type) {
+        Maze maze = type.generator().generate(WIDTH, HEIGHT);
+
+        int roads = MazeTopology.countRoads(maze.maze());
+        int edges = MazeTopology.countEdges(maze.maze());
+
+        assertThat(roads).isPositive();
+        assertThat(edges).isEqualTo(roads - 1);
+        assertThat(MazeTopology.countReachable(maze.maze())).isEqualTo(roads);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MazeGeneratorType.class)
+    void givenCarveBuffer_whenReplayingEvents_thenGridMatchesMaze(MazeGeneratorType type) {
+        CarveEventBuffer buffer = new CarveEventBuffer(16);
+        Cell[][] replayed = new Cell[WIDTH][HEIGHT];
+        for (Cell[] row : replayed) {
+            Arrays.fill(row, Cell.WALL);
+        }
+
+        CompletableFuture<Maze> generation = CompletableFuture.supplyAsync(
+            () -> type.generator().generate(WIDTH, HEIGHT, new SplittableRandom(1), buffer));
+        while (!generation.isDone() || buffer.size() > 0) {
+            buffer.drain((index, cell) -> replayed[index / HEIGHT][index % HEIGHT] = cell);
+        }
+
+        assertThat(replayed).isDeepEqualTo(generation.join().maze());
+    }
+}
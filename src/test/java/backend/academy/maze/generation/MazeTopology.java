@@ -0,0 +1,79 @@
+package backend.academy.maze.generation;
+
+import backend.academy.maze.model.Cell;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Helpers for checking the shape of generated mazes in tests.
+ */
+@UtilityClass
+class MazeTopology {
+
+    static int countRoads(Cell[][] cells) {
+        int roads = 0;
+        for (Cell[] column : cells) {
+            for (Cell cell : column) {
+                if (cell != Cell.WALL) {
+                    roads++;
+                }
+            }
+        }
+        return roads;
+    }
+
+    static int countEdges(Cell[][] cells) {
+        int edges = 0;
+        for (int x = 0; x < cells.length; x++) {
+            for (int y = 0; y < cells[x].length; y++) {
+                if (cells[x][y] == Cell.WALL) {
+                    continue;
+                }
+                if (x + 1 < cells.length && cells[x + 1][y] != Cell.WALL) {
+                    edges++;
+                }
+                if (y + 1 < cells[x].length && cells[x][y + 1] != Cell.WALL) {
+                    edges++;
+                }
+            }
+        }
+        return edges;
+    }
+
+    static int countReachable(Cell[][] cells) {
+        int width = cells.length;
+        int height = cells[0].length;
+        boolean[][] visited = new boolean[width][height];
+        Deque<int[]> queue = new ArrayDeque<>();
+
+        outer:
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (cells[x][y] != Cell.WALL) {
+                    visited[x][y] = true;
+                    queue.add(new int[] {x, y});
+                    break outer;
+                }
+            }
+        }
+
+        int reached = 0;
+        int[][] offsets = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        while (!queue.isEmpty()) {
+            int[] current = queue.poll();
+            reached++;
+            for (int[] offset : offsets) {
+                int nx = current[0] + offset[0];
+                int ny = current[1] + offset[1];
+                if (nx >= 0 && ny >= 0 && nx < width && ny < height
+                    && cells[nx][ny] != Cell.WALL && !visited[nx][ny]) {
+                    visited[nx][ny] = true;
+                    queue.add(new int[] {nx, ny});
+                }
+            }
+        }
+        return reached;
+    }
+}
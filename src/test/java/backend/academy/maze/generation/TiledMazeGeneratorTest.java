@@ -0,0 +1,38 @@
+package backend.academy.maze.generation;
+
+import backend.academy.maze.model.Maze;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TiledMazeGeneratorTest {
+
+    private static final int TILE_SIZE = 3;
+
+    @ParameterizedTest
+    @EnumSource(value = MazeGeneratorType.class, names = {"PRIM", "KRUSKAL", "RECURSIVE_BACKTRACKER", "ELLER", "WILSON"})
+    void givenSmallTiles_whenGenerating_thenRoadsFormSingleTree(MazeGeneratorType type) {
+        TiledMazeGenerator generator = new TiledMazeGenerator(type.generator(), TILE_SIZE);
+
+        Maze maze = generator.generate(40, 27, new SplittableRandom(42));
+
+        int roads = MazeTopology.countRoads(maze.maze());
+        assertThat(maze.maze()).hasNumberOfRows(40);
+        assertThat(MazeTopology.countEdges(maze.maze())).isEqualTo(roads - 1);
+        assertThat(MazeTopology.countReachable(maze.maze())).isEqualTo(roads);
+    }
+
+    @Test
+    void givenSameSeed_whenGenerating_thenReturnSameMaze() {
+        TiledMazeGenerator generator = new TiledMazeGenerator(new RecursiveBacktrackerMazeGenerator(), TILE_SIZE);
+
+        Maze first = generator.generate(61, 61, new SplittableRandom(7));
+        Maze second = generator.generate(61, 61, new SplittableRandom(7));
+
+        assertThat(first.maze()).isDeepEqualTo(second.maze());
+    }
+}
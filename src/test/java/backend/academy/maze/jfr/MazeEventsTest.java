@@ -0,0 +1,62 @@
+package backend.academy.maze.jfr;
+
+import backend.academy.maze.generation.MazeGeneratorType;
+import backend.academy.maze.graph.MazeGraph;
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Maze;
+import backend.academy.maze.model.utils.MazeUtils;
+import backend.academy.maze.routing.PathfinderType;
+import backend.academy.maze.ui.MazeRenderer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MazeEventsTest {
+
+    @Test
+    void givenRecording_whenRunningPipeline_thenEveryPhaseIsRecorded(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("maze.jfr");
+        List<Point> path;
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("Generate", "SpecialCells", "GraphBuild", "PathSearch", "Render")) {
+                recording.enable("backend.academy.maze." + name).withoutThreshold();
+            }
+            recording.start();
+
+            Maze maze = MazeGeneratorType.KRUSKAL.generator().generate(21, 31, new SplittableRandom(1));
+            MazeUtils.addSpecialCells(maze, 0.2, new SplittableRandom(2));
+            MazeGraph graph = new MazeGraph(maze);
+            graph.buildGraph();
+            path = PathfinderType.ASTAR.pathfinder().findPath(graph, new Point(1, 1), new Point(19, 29));
+            new MazeRenderer().render(maze.maze(), path, new Point(1, 1), new Point(19, 29));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .collect(Collectors.toMap(event -> event.getEventType().getName(), Function.identity(), (a, b) -> a));
+
+        RecordedEvent generate = events.get("backend.academy.maze.Generate");
+        assertThat(generate.getString("algorithm")).isEqualTo("KRUSKAL");
+        assertThat(generate.getInt("rows")).isEqualTo(21);
+        assertThat(generate.getLong("cells")).isEqualTo(21 * 31);
+        assertThat(events.get("backend.academy.maze.SpecialCells").getInt("placed")).isPositive();
+        assertThat(events.get("backend.academy.maze.GraphBuild").getInt("nodes")).isPositive();
+        RecordedEvent search = events.get("backend.academy.maze.PathSearch");
+        assertThat(search.getString("status")).isEqualTo("found");
+        assertThat(search.getInt("pathLength")).isEqualTo(path.size());
+        assertThat(events.get("backend.academy.maze.Render").getString("format")).isEqualTo("text");
+    }
+}
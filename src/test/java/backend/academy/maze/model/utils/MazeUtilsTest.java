@@ -0,0 +1,74 @@
+package backend.academy.maze.model.utils;
+
+import backend.academy.maze.generation.KruskalMazeGenerator;
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MazeUtilsTest {
+
+    private static final int SIZE = 51;
+
+    @Test
+    void givenFullPercentage_whenAddingSpecialCells_thenReplaceEveryRoadEvenly() {
+        Maze maze = new KruskalMazeGenerator().generate(SIZE, SIZE, new SplittableRandom(5));
+        int roads = count(maze, Cell.ROAD);
+
+        MazeUtils.addSpecialCells(maze, 1.0, new SplittableRandom(5));
+
+        int perType = roads / 2;
+        assertThat(count(maze, Cell.SWAMP)).isEqualTo(perType);
+        assertThat(count(maze, Cell.ACCELERATED_PATH)).isEqualTo(perType);
+        assertThat(count(maze, Cell.ROAD)).isEqualTo(roads - 2 * perType);
+    }
+
+    @Test
+    void givenZeroPercentage_whenAddingSpecialCells_thenLeaveMazeUnchanged() {
+        Maze maze = new KruskalMazeGenerator().generate(SIZE, SIZE, new SplittableRandom(5));
+        int roads = count(maze, Cell.ROAD);
+
+        MazeUtils.addSpecialCells(maze, 0.0, new SplittableRandom(5));
+
+        assertThat(count(maze, Cell.ROAD)).isEqualTo(roads);
+    }
+
+    @Test
+    void givenSameSeed_whenAddingSpecialCellsInParallel_thenPlaceSameCellsAsSequential() {
+        Maze sequential = new KruskalMazeGenerator().generate(SIZE, SIZE, new SplittableRandom(9));
+        Maze parallel = new KruskalMazeGenerator().generate(SIZE, SIZE, new SplittableRandom(9));
+
+        MazeUtils.addSpecialCells(sequential, 0.3, new SplittableRandom(11));
+        MazeUtils.addSpecialCellsParallel(parallel, 0.3, new SplittableRandom(11));
+
+        assertThat(parallel.maze()).isDeepEqualTo(sequential.maze());
+        assertThat(count(parallel, Cell.SWAMP)).isPositive();
+    }
+
+    @Test
+    void givenPercentageAboveOne_whenAddingSpecialCells_thenThrowClearException() {
+        Maze maze = new KruskalMazeGenerator().generate(11, 11, new SplittableRandom(1));
+
+        assertThatThrownBy(() -> MazeUtils.addSpecialCells(maze, 1.5, new SplittableRandom(1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid special cell ratio: 1.5");
+        assertThatThrownBy(() -> MazeUtils.addSpecialCellsParallel(maze, -0.1, new SplittableRandom(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int count(Maze maze, Cell type) {
+        int count = 0;
+        for (Cell[] column : maze.maze()) {
+            for (Cell cell : column) {
+                if (cell == type) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
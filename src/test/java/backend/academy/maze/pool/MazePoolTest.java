@@ -0,0 +1,57 @@
+package backend.academy.maze.pool;
+
+import backend.academy.maze.generation.MazeGeneratorType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class MazePoolTest {
+
+    private static final int SIZE = 21;
+
+    @Test
+    void givenEmptyPool_whenTaking_thenMazeWithGraphIsReturned() {
+        try (MazePool pool = new MazePool()) {
+            PooledMaze pooled = pool.take(MazeGeneratorType.PRIM, SIZE, SIZE);
+
+            assertThat(pooled.maze().width()).isEqualTo(SIZE);
+            assertThat(pooled.maze().height()).isEqualTo(SIZE);
+            assertThat(pooled.graph().graph()).isNotEmpty();
+        }
+    }
+
+    @Test
+    void givenWarmedPool_whenTaking_thenPoolIsRefilled() {
+        try (MazePool pool = new MazePool(2, MazePool.DEFAULT_MAX_BYTES, 1)) {
+            pool.warm(MazeGeneratorType.KRUSKAL, SIZE, SIZE);
+            awaitReady(pool, MazeGeneratorType.KRUSKAL, 2);
+
+            PooledMaze first = pool.take(MazeGeneratorType.KRUSKAL, SIZE, SIZE);
+            PooledMaze second = pool.take(MazeGeneratorType.KRUSKAL, SIZE, SIZE);
+
+            assertThat(first.maze()).isNotSameAs(second.maze());
+            awaitReady(pool, MazeGeneratorType.KRUSKAL, 2);
+        }
+    }
+
+    @Test
+    void givenMemoryCap_whenWarmingAnotherKey_thenOldMazesAreEvicted() {
+        try (MazePool pool = new MazePool(1, MazePool.footprint(SIZE, SIZE), 1)) {
+            pool.warm(MazeGeneratorType.PRIM, SIZE, SIZE);
+            awaitReady(pool, MazeGeneratorType.PRIM, 1);
+
+            pool.warm(MazeGeneratorType.KRUSKAL, SIZE, SIZE);
+            awaitReady(pool, MazeGeneratorType.KRUSKAL, 1);
+
+            assertThat(pool.readyCount(MazeGeneratorType.PRIM, SIZE, SIZE)).isZero();
+        }
+    }
+
+    private static void awaitReady(MazePool pool, MazeGeneratorType type, int count) {
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> pool.readyCount(type, SIZE, SIZE) == count);
+    }
+}
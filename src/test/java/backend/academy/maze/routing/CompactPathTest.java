@@ -0,0 +1,90 @@
+package backend.academy.maze.routing;
+
+import backend.academy.maze.graph.PathDirection;
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Cell;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactPathTest {
+
+    @Test
+    void givenPoints_whenEncoding_thenDecodesToSamePointsAndRuns() {
+        List<Point> points = List.of(
+            new Point(1, 1), new Point(1, 2), new Point(1, 3), new Point(1, 4),
+            new Point(2, 4), new Point(2, 3), new Point(2, 2)
+        );
+
+        CompactPath path = CompactPath.of(points);
+
+        assertThat(path.toList()).isEqualTo(points);
+        assertThat(path.length()).isEqualTo(7);
+        assertThat(path.runLength()).isEqualTo("R3DL2");
+        assertThat(CompactPath.fromRunLength(new Point(1, 1), "R3DL2").toList()).isEqualTo(points);
+    }
+
+    @Test
+    void givenLongPath_whenEncoding_thenStepsSpanSeveralWords() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            points.add(new Point(i / 2, (i + 1) / 2));
+        }
+
+        CompactPath path = CompactPath.of(points);
+
+        assertThat(path.moves()).isEqualTo(99);
+        assertThat(path.direction(0)).isEqualTo(PathDirection.RIGHT);
+        assertThat(path.direction(97)).isEqualTo(PathDirection.DOWN);
+        assertThat(path.direction(98)).isEqualTo(PathDirection.RIGHT);
+        assertThat(path).containsExactlyElementsOf(points);
+    }
+
+    @Test
+    void givenPredecessors_whenBuildingPath_thenPathRunsFromStartToEnd() {
+        Map<Point, Point> previous = new HashMap<>();
+        previous.put(new Point(0, 1), new Point(0, 0));
+        previous.put(new Point(1, 1), new Point(0, 1));
+
+        CompactPath path = CompactPath.fromPredecessors(previous, new Point(0, 0), new Point(1, 1));
+        CompactPath broken = CompactPath.fromPredecessors(previous, new Point(0, 0), new Point(2, 2));
+
+        assertThat(path.toList()).containsExactly(new Point(0, 0), new Point(0, 1), new Point(1, 1));
+        assertThat(broken.isEmpty()).isTrue();
+        assertThat(broken.toList()).isEmpty();
+    }
+
+    @Test
+    void givenMaze_whenComputingCost_thenSumsEnteredCells() {
+        Cell[][] cells = {
+            {Cell.ROAD, Cell.SWAMP},
+            {Cell.WALL, Cell.ACCELERATED_PATH}
+        };
+
+        CompactPath path = CompactPath.fromRunLength(new Point(0, 0), "RD");
+
+        assertThat(path.cost(cells)).isEqualTo(Cell.SWAMP.value() + Cell.ACCELERATED_PATH.value());
+    }
+
+    @Test
+    void givenMalformedRuns_whenDecoding_thenThrowException() {
+        assertThatThrownBy(() -> CompactPath.fromRunLength(new Point(0, 0), "R3X"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenZeroCount_whenDecoding_thenThrowException() {
+        assertThatThrownBy(() -> CompactPath.fromRunLength(new Point(0, 0), "R0D"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("index 0");
+        assertThatThrownBy(() -> CompactPath.fromRunLength(new Point(0, 0), "DR00"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("index 1");
+    }
+}
@@ -100,4 +100,39 @@ class DijkstraPathfinderTest {
 
         assertThat(path).isEmpty();
     }
+
+    @Test
+    void givenUnlimitedBudget_whenFindingPath_thenReturnFoundResult() {
+        SearchResult result = pathfinder.findPath(mazeGraph, new Point(2, 2), new Point(0, 3),
+            SearchBudget.unlimited());
+
+        assertThat(result.status()).isEqualTo(SearchStatus.FOUND);
+        assertThat(result.path().toList()).hasSize(4);
+        assertThat(result.expansions()).isPositive();
+    }
+
+    @Test
+    void givenExpansionLimit_whenFindingPath_thenReturnPartialPathFromStart() {
+        Point start = new Point(2, 2);
+
+        SearchResult result = pathfinder.findPath(mazeGraph, start, new Point(0, 3),
+            SearchBudget.unlimited().withMaxExpansions(1));
+
+        assertThat(result.status()).isEqualTo(SearchStatus.EXPANSIONS_EXCEEDED);
+        assertThat(result.expansions()).isEqualTo(1);
+        assertThat(result.path().toList()).containsExactly(start);
+    }
+
+    @Test
+    void givenCancelledToken_whenFindingPath_thenStopBeforeExpanding() {
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+
+        SearchResult result = pathfinder.findPath(mazeGraph, new Point(2, 2), new Point(0, 3),
+            SearchBudget.unlimited().withCancellation(token));
+
+        assertThat(result.status()).isEqualTo(SearchStatus.CANCELLED);
+        assertThat(result.isFound()).isFalse();
+        assertThat(result.expansions()).isZero();
+    }
 }
@@ -0,0 +1,71 @@
+package backend.academy.maze.routing;
+
+import backend.academy.maze.generation.BraidedMazeGenerator;
+import backend.academy.maze.generation.RecursiveBacktrackerMazeGenerator;
+import backend.academy.maze.graph.MazeGraph;
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Maze;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EndpointSelectorTest {
+
+    private static final int SIZE = 31;
+    private static final int SMALL_SIZE = 15;
+
+    private final EndpointSelector selector = new EndpointSelector();
+
+    @Test
+    void givenPerfectMaze_whenSelectingHardest_thenNoPairIsFartherApart() {
+        Maze maze = new RecursiveBacktrackerMazeGenerator().generate(SMALL_SIZE, SMALL_SIZE, new SplittableRandom(2));
+
+        Endpoints endpoints = selector.hardest(maze);
+
+        MazeGraph graph = graph(maze);
+        assertThat(cost(graph, endpoints.start(), endpoints.end())).isEqualTo(endpoints.distance());
+        assertThat(bruteForceDiameter(graph)).isEqualTo(endpoints.distance());
+    }
+
+    @Test
+    void givenBraidedMaze_whenSampling_thenEndIsReachableAndFar() {
+        Maze maze = new BraidedMazeGenerator(new RecursiveBacktrackerMazeGenerator(), 0.5)
+            .generate(SIZE, SIZE, new SplittableRandom(3));
+
+        Endpoints endpoints = selector.sample(maze, 0.9, new SplittableRandom(4));
+
+        MazeGraph graph = graph(maze);
+        assertThat(cost(graph, endpoints.start(), endpoints.end())).isEqualTo(endpoints.distance());
+        assertThat(endpoints.distance()).isPositive();
+    }
+
+    private static MazeGraph graph(Maze maze) {
+        MazeGraph graph = new MazeGraph(maze);
+        graph.buildGraph();
+        return graph;
+    }
+
+    private static int cost(MazeGraph graph, Point start, Point end) {
+        List<Point> path = new DijkstraPathfinder().findPath(graph, start, end);
+        int cost = 0;
+        for (int i = 1; i < path.size(); i++) {
+            Point point = path.get(i);
+            cost += graph.maze().maze()[point.x()][point.y()].value();
+        }
+        return cost;
+    }
+
+    private static int bruteForceDiameter(MazeGraph graph) {
+        List<Point> points = List.copyOf(graph.graph().keySet());
+        int diameter = 0;
+        for (Point start : points) {
+            for (Point end : points) {
+                diameter = Math.max(diameter, cost(graph, start, end));
+            }
+        }
+        return diameter;
+    }
+}
@@ -0,0 +1,61 @@
+package backend.academy.maze.routing;
+
+import backend.academy.maze.generation.MazeGeneratorType;
+import backend.academy.maze.graph.MazeGraph;
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Maze;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchStatsTest {
+
+    private MazeGraph mazeGraph;
+
+    @BeforeEach
+    void setUp() {
+        Maze maze = MazeGeneratorType.PRIM.generator().generate(31, 31, new SplittableRandom(11));
+        mazeGraph = new MazeGraph(maze);
+        mazeGraph.buildGraph();
+    }
+
+    @Test
+    void givenStatsCollector_whenFindingPath_thenCountersAreConsistent() {
+        for (PathfinderType type : PathfinderType.values()) {
+            SearchStats stats = new SearchStats();
+
+            SearchResult result = type.pathfinder().findPath(mazeGraph, new Point(1, 1), new Point(29, 29),
+                SearchBudget.unlimited(), stats);
+
+            assertThat(result.isFound()).isTrue();
+            assertThat(stats.queries()).isOne();
+            assertThat(stats.expansions()).isEqualTo(result.expansions()).isPositive();
+            assertThat(stats.heapPops()).isEqualTo(stats.expansions() + stats.stalePops() + 1);
+            assertThat(stats.heapPushes()).isGreaterThanOrEqualTo(stats.heapPops());
+            assertThat(stats.edgesRelaxed()).isGreaterThanOrEqualTo(stats.heapPushes() - 1);
+            assertThat(stats.peakOpenSet()).isPositive();
+            assertThat(stats.wallNanos()).isPositive();
+        }
+    }
+
+    @Test
+    void givenSeveralQueries_whenAggregating_thenCountsAreSummedAndPeakIsMaximal() {
+        Pathfinder pathfinder = new DijkstraPathfinder();
+        SearchStats first = new SearchStats();
+        SearchStats second = new SearchStats();
+        pathfinder.findPath(mazeGraph, new Point(1, 1), new Point(29, 29), SearchBudget.unlimited(), first);
+        pathfinder.findPath(mazeGraph, new Point(1, 1), new Point(1, 3), SearchBudget.unlimited(), second);
+
+        SearchStats total = new SearchStats();
+        total.add(first);
+        total.add(second);
+
+        assertThat(total.queries()).isEqualTo(2);
+        assertThat(total.expansions()).isEqualTo(first.expansions() + second.expansions());
+        assertThat(total.heapPushes()).isEqualTo(first.heapPushes() + second.heapPushes());
+        assertThat(total.peakOpenSet()).isEqualTo(Math.max(first.peakOpenSet(), second.peakOpenSet()));
+    }
+}
@@ -0,0 +1,139 @@
+package backend.academy.maze.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MazeServerTest {
+
+    private static final int CONCURRENT_REQUESTS = 500;
+    private static final int IN_FLIGHT_CELLS = 100;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private MazeServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new MazeServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+        client.close();
+    }
+
+    @Test
+    void givenSeed_whenRequestingMaze_thenRowsAreStreamedReproducibly() throws Exception {
+        HttpResponse<String> first = get("/maze?algorithm=PRIM&height=11&width=15&seed=5");
+        HttpResponse<String> second = get("/maze?algorithm=1&height=11&width=15&seed=5");
+
+        assertThat(first.statusCode()).isEqualTo(200);
+        assertThat(first.headers().firstValue("X-Maze-Seed")).hasValue("5");
+        assertThat(first.body())
+            .startsWith("{\"seed\":5,\"height\":11,\"width\":15,\"encoding\":\"symbols\",\"rows\":[\"#######");
+        assertThat(second.body()).isEqualTo(first.body());
+    }
+
+    @Test
+    void givenEndpoints_whenSolving_thenPathConnectsThem() throws Exception {
+        HttpResponse<String> response = get("/solve?height=21&width=21&seed=3&special=0.2&pathfinder=ASTAR"
+            + "&start=1,1&end=19,19");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("\"start\":[1,1],\"end\":[19,19],\"found\":true")
+            .contains("\"path\":{\"start\":[1,1],\"moves\":\"").endsWith("\"}}");
+    }
+
+    @Test
+    void givenExpansionBudget_whenSolving_thenPartialPathIsReturned() throws Exception {
+        HttpResponse<String> response = get("/solve?height=21&width=21&seed=3&start=1,1&end=19,19&expansions=5");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body())
+            .contains("\"found\":false,\"status\":\"expansions_exceeded\",\"expansions\":5")
+            .contains("\"path\":{\"start\":[1,1]");
+    }
+
+    @Test
+    void givenInvalidParameter_whenRequesting_thenBadRequestIsReturned() throws Exception {
+        HttpResponse<String> response = get("/solve?height=abc");
+
+        assertThat(response.statusCode()).isEqualTo(400);
+        assertThat(response.body()).isEqualTo("{\"error\":\"Invalid value of height: abc\"}");
+    }
+
+    @Test
+    void givenMalformedEscape_whenRequesting_thenBadRequestIsReturned() throws Exception {
+        // The HTTP client refuses to send such a URI, so the request is written by hand
+        String response;
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.port())) {
+            socket.getOutputStream().write(
+                "GET /maze?seed=%zz HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n"
+                    .getBytes(StandardCharsets.US_ASCII));
+            response = new String(socket.getInputStream().readAllBytes(), StandardCharsets.US_ASCII);
+        }
+
+        assertThat(response).startsWith("HTTP/1.1 400 ");
+    }
+
+    @Test
+    void givenManyConcurrentRequests_whenServing_thenAllSucceed() {
+        List<CompletableFuture<HttpResponse<String>>> responses = IntStream.range(0, CONCURRENT_REQUESTS)
+            .mapToObj(i -> client.sendAsync(request("/maze?height=21&width=21&format=text&seed=" + i),
+                HttpResponse.BodyHandlers.ofString()))
+            .toList();
+
+        assertThat(responses).allSatisfy(response -> assertThat(response.join().statusCode()).isEqualTo(200));
+    }
+
+    @Test
+    void givenInFlightLimitTaken_whenRequesting_thenServiceUnavailableIsReturned() throws Exception {
+        Semaphore permits = new Semaphore(IN_FLIGHT_CELLS);
+        try (MazeServer limited = new MazeServer(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), IN_FLIGHT_CELLS, permits)) {
+            limited.start();
+            HttpResponse<String> admitted = client.send(limitedRequest(limited), HttpResponse.BodyHandlers.ofString());
+            assertThat(admitted.statusCode()).isEqualTo(200);
+            assertThat(permits.availablePermits()).isEqualTo(IN_FLIGHT_CELLS);
+
+            // Another request holds most of the cells
+            permits.acquire(IN_FLIGHT_CELLS - 1);
+            HttpResponse<String> rejected = client.send(limitedRequest(limited), HttpResponse.BodyHandlers.ofString());
+
+            assertThat(rejected.statusCode()).isEqualTo(503);
+            assertThat(rejected.headers().firstValue("Retry-After")).hasValue("1");
+            assertThat(permits.availablePermits()).isOne();
+        }
+    }
+
+    private static HttpRequest limitedRequest(MazeServer limited) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + limited.port() + "/maze?height=5&width=5"))
+            .build();
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(request(path), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + server.port() + path)).build();
+    }
+}
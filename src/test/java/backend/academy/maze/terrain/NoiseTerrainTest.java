@@ -0,0 +1,137 @@
+package backend.academy.maze.terrain;
+
+import backend.academy.maze.generation.RecursiveBacktrackerMazeGenerator;
+import backend.academy.maze.model.Cell;
+import backend.academy.maze.model.Maze;
+import backend.academy.maze.model.utils.MazeUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class NoiseTerrainTest {
+
+    private static final int SIZE = 201;
+
+    @Test
+    void givenSameSeed_whenApplying_thenTerrainIsIdentical() {
+        Maze first = generate();
+        Maze second = generate();
+
+        new NoiseTerrain(42, 0.5).apply(first);
+        new NoiseTerrain(42, 0.5).apply(second);
+
+        assertThat(first.maze()).isDeepEqualTo(second.maze());
+    }
+
+    @Test
+    void givenCoverage_whenApplying_thenOnlyRoadsAreConverted() {
+        Maze maze = generate();
+        Cell[][] before = copy(maze.maze());
+
+        new NoiseTerrain(7, 0.5).apply(maze);
+
+        int converted = 0;
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                if (before[x][y] == Cell.WALL) {
+                    assertThat(maze.maze()[x][y]).isEqualTo(Cell.WALL);
+                } else if (maze.maze()[x][y] != Cell.ROAD) {
+                    converted++;
+                }
+            }
+        }
+        assertThat(converted).isPositive();
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.1, 0.3, 0.5})
+    void givenCoverage_whenApplying_thenConvertedFractionMatchesCoverage(double coverage) {
+        Maze maze = generate();
+        int roads = count(maze, Cell.ROAD);
+
+        new NoiseTerrain(7, coverage).apply(maze);
+
+        double converted = (double) (roads - count(maze, Cell.ROAD)) / roads;
+        assertThat(converted).isCloseTo(coverage, within(0.02));
+    }
+
+    @Test
+    void givenCoverage_whenApplying_thenSpecialCellsClusterMoreThanUniformPlacement() {
+        Maze clustered = generate();
+        Maze uniform = generate();
+
+        new NoiseTerrain(7, 0.3).apply(clustered);
+        MazeUtils.addSpecialCells(uniform, 0.3, new SplittableRandom(7));
+
+        assertThat(specialNeighbours(clustered)).isGreaterThan(specialNeighbours(uniform) * 1.5);
+    }
+
+    @Test
+    void givenZeroCoverage_whenApplying_thenMazeIsUnchanged() {
+        Maze maze = generate();
+        Cell[][] before = copy(maze.maze());
+
+        new NoiseTerrain(7, 0).apply(maze);
+
+        assertThat(maze.maze()).isDeepEqualTo(before);
+    }
+
+    @Test
+    void givenInvalidCoverage_whenCreating_thenThrowException() {
+        assertThatThrownBy(() -> new NoiseTerrain(1, 1.5))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Maze generate() {
+        return new RecursiveBacktrackerMazeGenerator().generate(SIZE, SIZE, new SplittableRandom(1));
+    }
+
+    private static int count(Maze maze, Cell type) {
+        int count = 0;
+        for (Cell[] row : maze.maze()) {
+            for (Cell cell : row) {
+                if (cell == type) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the average number of special cells next to a special cell.
+     */
+    private static double specialNeighbours(Maze maze) {
+        Cell[][] cells = maze.maze();
+        int special = 0;
+        int neighbours = 0;
+        for (int x = 1; x < SIZE - 1; x++) {
+            for (int y = 1; y < SIZE - 1; y++) {
+                if (isSpecial(cells[x][y])) {
+                    special++;
+                    neighbours += (isSpecial(cells[x - 1][y]) ? 1 : 0) + (isSpecial(cells[x + 1][y]) ? 1 : 0)
+                        + (isSpecial(cells[x][y - 1]) ? 1 : 0) + (isSpecial(cells[x][y + 1]) ? 1 : 0);
+                }
+            }
+        }
+        return (double) neighbours / special;
+    }
+
+    private static boolean isSpecial(Cell cell) {
+        return cell != Cell.WALL && cell != Cell.ROAD;
+    }
+
+    private static Cell[][] copy(Cell[][] cells) {
+        Cell[][] copy = new Cell[cells.length][];
+        for (int x = 0; x < cells.length; x++) {
+            copy[x] = cells[x].clone();
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,76 @@
+package backend.academy.maze.ui;
+
+import backend.academy.maze.generation.MazeGeneratorType;
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Maze;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.jline.terminal.Size;
+import org.jline.terminal.Terminal;
+import org.jline.terminal.TerminalBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsoleUITest {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private Terminal terminal;
+    private ConsoleUI ui;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        terminal = TerminalBuilder.builder()
+            .system(false)
+            .type("dumb")
+            .streams(new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream())
+            .build();
+        terminal.setSize(new Size(80, 24));
+        ui = new ConsoleUI(terminal, new TerminalOutput(bytes));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        terminal.close();
+    }
+
+    @Test
+    void givenRecording_whenShowingMaze_thenFrameIsWrittenAndRenderIsRecorded(@TempDir Path directory)
+            throws IOException {
+        Path file = directory.resolve("console.jfr");
+        List<Point> path = List.of(new Point(1, 1), new Point(1, 2), new Point(1, 3));
+        Maze maze = MazeGeneratorType.KRUSKAL.generator().generate(5, 5, new SplittableRandom(1));
+        try (Recording recording = new Recording()) {
+            recording.enable("backend.academy.maze.Render").withoutThreshold();
+            recording.start();
+
+            ui.showMaze(maze.maze(), path, new Point(1, 1), new Point(1, 3));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        String expected = new MazeRenderer().render(maze.maze(), path, new Point(1, 1), new Point(1, 3)).toString();
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).endsWith(expected);
+        List<RecordedEvent> renders = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals("backend.academy.maze.Render"))
+            .toList();
+        assertThat(renders).singleElement().satisfies(render -> {
+            assertThat(render.getString("format")).isEqualTo("terminal");
+            assertThat(render.getInt("rows")).isEqualTo(5);
+            assertThat(render.getInt("pathLength")).isEqualTo(path.size());
+        });
+    }
+}
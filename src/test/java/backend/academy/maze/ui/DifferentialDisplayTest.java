@@ -0,0 +1,65 @@
+package backend.academy.maze.ui;
+
+import org.jline.terminal.Size;
+import org.jline.terminal.Terminal;
+import org.jline.terminal.TerminalBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DifferentialDisplayTest {
+
+    private static final char[] FRAME = "#####...#####".toCharArray();
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private Terminal terminal;
+    private DifferentialDisplay display;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        terminal = TerminalBuilder.builder()
+            .system(false)
+            .type("xterm")
+            .streams(new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream())
+            .build();
+        terminal.setSize(new Size(80, 24));
+        display = new DifferentialDisplay(terminal, new TerminalOutput(bytes));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        terminal.close();
+    }
+
+    @Test
+    void givenChangedCell_whenDrawingAgain_thenOnlyThatCellIsWritten() {
+        display.draw(FRAME, 1, FRAME.length);
+        String first = bytes.toString(StandardCharsets.UTF_8);
+        bytes.reset();
+
+        char[] changed = FRAME.clone();
+        changed[6] = 'o';
+        display.draw(changed, 1, changed.length);
+        String second = bytes.toString(StandardCharsets.UTF_8);
+
+        assertThat(first).contains("# # # # # . . . # # # # # \n");
+        assertThat(second).isEqualTo("\033[1;13Ho\033[2;1H");
+    }
+
+    @Test
+    void givenDifferentSize_whenDrawing_thenFrameIsRedrawnInFull() {
+        display.draw(FRAME, 1, FRAME.length);
+        bytes.reset();
+
+        display.draw(FRAME, FRAME.length, 1);
+
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).startsWith("\033[H\033[2J").contains("# \n# \n");
+    }
+}
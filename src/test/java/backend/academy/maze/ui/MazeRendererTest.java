@@ -0,0 +1,35 @@
+package backend.academy.maze.ui;
+
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Cell;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MazeRendererTest {
+
+    private static final Cell[][] MAZE = {
+        {Cell.WALL, Cell.WALL, Cell.WALL},
+        {Cell.ROAD, Cell.SWAMP, Cell.ROAD},
+        {Cell.WALL, Cell.WALL, Cell.ACCELERATED_PATH}
+    };
+
+    private final MazeRenderer renderer = new MazeRenderer();
+
+    @Test
+    void givenMaze_whenRendering_thenCellSymbolsAreWritten() {
+        assertThat(renderer.render(MAZE).toString()).isEqualTo("# # # \n. ~ . \n# # > \n");
+    }
+
+    @Test
+    void givenPath_whenRendering_thenEndpointsTakePrecedenceOverPath() {
+        List<Point> path = List.of(new Point(1, 0), new Point(1, 1), new Point(1, 2), new Point(2, 2));
+
+        String rendered = renderer.render(MAZE, path, new Point(1, 0), new Point(2, 2)).toString();
+
+        assertThat(rendered).isEqualTo("# # # \nA o o \n# # B \n");
+        assertThat(renderer.render(MAZE).toString()).isEqualTo("# # # \n. ~ . \n# # > \n");
+    }
+}
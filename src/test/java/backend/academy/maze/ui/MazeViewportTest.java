@@ -0,0 +1,39 @@
+package backend.academy.maze.ui;
+
+import backend.academy.maze.graph.Point;
+import backend.academy.maze.model.Cell;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MazeViewportTest {
+
+    private static final Cell[][] MAZE = {
+        {Cell.WALL, Cell.WALL, Cell.ROAD, Cell.ROAD},
+        {Cell.ROAD, Cell.ROAD, Cell.ROAD, Cell.SWAMP},
+        {Cell.SWAMP, Cell.SWAMP, Cell.ROAD, Cell.ROAD},
+        {Cell.SWAMP, Cell.ROAD, Cell.ROAD, Cell.ROAD}
+    };
+
+    @Test
+    void givenSmallWindow_whenFitting_thenBlocksAreSummarized() {
+        MazeViewport viewport = new MazeViewport(MAZE, 2, 2);
+
+        viewport.fit();
+
+        assertThat(new String(viewport.frame(List.of(), null, null))).isEqualTo("#.~.");
+        assertThat(viewport.status()).isEqualTo("Rows 0-4 of 4, columns 0-4 of 4, scale 1:2");
+    }
+
+    @Test
+    void givenPanPastBorder_whenRendering_thenWindowIsClampedAndEndpointsShown() {
+        MazeViewport viewport = new MazeViewport(MAZE, 2, 2);
+
+        viewport.pan(5, 5);
+
+        char[] frame = viewport.frame(List.of(new Point(2, 3), new Point(3, 3)), new Point(0, 2), new Point(3, 3));
+        assertThat(new String(frame, 0, 4)).isEqualTo(".o.B");
+    }
+}
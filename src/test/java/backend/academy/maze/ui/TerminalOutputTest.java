@@ -0,0 +1,35 @@
+package backend.academy.maze.ui;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TerminalOutputTest {
+
+    @Test
+    void givenMixedText_whenPrinting_thenUtf8BytesAreWritten() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TerminalOutput output = new TerminalOutput(bytes);
+
+        output.println("# . ~");
+        output.print("Лабиринт 😀 done");
+        output.flush();
+
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).isEqualTo("# . ~\nЛабиринт 😀 done");
+    }
+
+    @Test
+    void givenTextLargerThanBuffer_whenPrinting_thenEverythingIsWritten() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TerminalOutput output = new TerminalOutput(bytes);
+        String text = "# ".repeat(100_000) + "ж".repeat(100_000);
+
+        output.print(text);
+        output.flush();
+
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).isEqualTo(text);
+    }
+}